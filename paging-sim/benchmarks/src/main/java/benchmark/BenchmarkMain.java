@@ -0,0 +1,47 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+/**
+ * Ponto de entrada do benchmarks.jar: aceita as mesmas opções do JMH e
+ * sempre adiciona o GCProfiler, para que a taxa de alocação
+ * (gc.alloc.rate.norm) apareça ao lado da vazão.
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        // Ajuda e listagens ficam com o Main do próprio JMH
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+
+        if (!hasGcProfiler(commandLine)) {
+            builder.addProfiler(GCProfiler.class);
+        }
+
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+
+    private static boolean hasGcProfiler(CommandLineOptions commandLine) {
+        for (ProfilerConfig profiler : commandLine.getProfilers()) {
+            if ("gc".equals(profiler.getKlass()) || GCProfiler.class.getName().equals(profiler.getKlass())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+package benchmark;
+
+import model.PageSequence;
+import model.SystemConfiguration;
+import parser.FastInputParser;
+import parser.InputParser;
+import parser.TraceParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão dos parsers de texto (requisições/s) sobre um arquivo de entrada
+ * grande no formato do simulador, gerado uma vez por execução.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    static final int SEQUENCES = 4;
+    static final int REQUESTS_PER_SEQUENCE = 1 << 18;
+    static final int PAGES = 65536;
+
+    @Param({ "SCANNER", "FAST" })
+    public String parserName;
+
+    private Path input;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        input = Files.createTempFile("paging-sim-bench", ".txt");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(input)) {
+            writer.write("262144\n1048576\nx86\n" + PAGES + "\n\n" + SEQUENCES + "\n\n");
+
+            for (int s = 0; s < SEQUENCES; s++) {
+                int[] trace = TraceShape.UNIFORM.generate(REQUESTS_PER_SEQUENCE, PAGES, PolicyBenchmark.SEED + s);
+
+                if (s > 0) {
+                    writer.write('\n');
+                }
+                writer.write(REQUESTS_PER_SEQUENCE + "\n");
+
+                for (int i = 0; i < trace.length; i++) {
+                    if (i > 0) {
+                        writer.write(' ');
+                    }
+                    writer.write(Integer.toString(trace[i]));
+                }
+                writer.write('\n');
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEQUENCES * REQUESTS_PER_SEQUENCE)
+    public List<PageSequence> parse() throws IOException {
+        try (FileInputStream stream = new FileInputStream(input.toFile())) {
+            TraceParser parser = "FAST".equals(parserName)
+                    ? new FastInputParser(stream.getChannel())
+                    : new InputParser(new Scanner(stream));
+
+            SystemConfiguration config = parser.readConfiguration();
+            return parser.readSequences(config);
+        }
+    }
+}
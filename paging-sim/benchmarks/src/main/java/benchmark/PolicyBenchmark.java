@@ -0,0 +1,101 @@
+package benchmark;
+
+import model.PageSequence;
+import model.SimulationResult;
+import policy.ARCPolicy;
+import policy.ClockPolicy;
+import policy.EnhancedClockPolicy;
+import policy.FIFOPolicy;
+import policy.LFUPolicy;
+import policy.LRUPolicy;
+import policy.OPTPolicy;
+import policy.PFFPolicy;
+import policy.PageReplacementPolicy;
+import policy.RANDPolicy;
+import policy.WTinyLFUPolicy;
+import policy.WorkingSetPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de cada política (requisições/s) por quantidade de frames e formato
+ * de trace. Cada invocação simula a sequência inteira, incluindo a montagem
+ * do SimulationResult.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolicyBenchmark {
+
+    static final int TRACE_LENGTH = 1 << 20;
+    static final int PAGES = 1 << 17;
+    static final long SEED = 42L;
+
+    @Param({ "FIFO", "RAND", "LRU", "MIN", "CLOCK", "ECLOCK", "ARC", "LFU", "WTINYLFU", "WS", "PFF" })
+    public String policyName;
+
+    @Param({ "8", "256", "4096", "65536" })
+    public int frames;
+
+    @Param({ "UNIFORM", "LOOP", "ZIPF" })
+    public TraceShape shape;
+
+    private PageSequence sequence;
+    private PageReplacementPolicy policy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sequence = new PageSequence(shape.generate(TRACE_LENGTH, PAGES, SEED));
+        policy = createPolicy(policyName, PAGES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRACE_LENGTH)
+    public SimulationResult simulate() {
+        return policy.simulate(sequence, frames);
+    }
+
+    static PageReplacementPolicy createPolicy(String name, int pages) {
+        switch (name) {
+            case "FIFO":
+                return new FIFOPolicy(pages);
+            case "RAND":
+                return new RANDPolicy(pages, SEED);
+            case "LRU":
+                return new LRUPolicy(pages);
+            case "MIN":
+                return new OPTPolicy(pages);
+            case "CLOCK":
+                return new ClockPolicy(pages);
+            case "ECLOCK":
+                return new EnhancedClockPolicy(pages, EnhancedClockPolicy.DEFAULT_WRITE_RATIO, SEED);
+            case "ARC":
+                return new ARCPolicy(pages);
+            case "LFU":
+                return new LFUPolicy(pages, 0);
+            case "WTINYLFU":
+                return new WTinyLFUPolicy(pages);
+            case "WS":
+                return new WorkingSetPolicy(pages, WorkingSetPolicy.DEFAULT_WINDOW);
+            case "PFF":
+                return new PFFPolicy(pages, PFFPolicy.DEFAULT_THRESHOLD);
+            default:
+                throw new IllegalArgumentException("Política desconhecida: " + name);
+        }
+    }
+}
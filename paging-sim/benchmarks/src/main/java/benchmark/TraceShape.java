@@ -0,0 +1,87 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Formatos de trace usados nos benchmarks. Todos são gerados com semente
+ * fixa, de modo que cada execução mede exatamente a mesma sequência.
+ */
+public enum TraceShape {
+
+    /**
+     * Páginas uniformes em [0, pages), como o test-case-generator/main.py.
+     */
+    UNIFORM {
+        @Override
+        int[] generate(int length, int pages, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            int[] trace = new int[length];
+
+            for (int i = 0; i < length; i++) {
+                trace[i] = random.nextInt(pages);
+            }
+
+            return trace;
+        }
+    },
+
+    /**
+     * Varredura cíclica de LOOP_PAGES páginas: o pior caso do LRU e do FIFO
+     * sempre que o laço não cabe nos frames.
+     */
+    LOOP {
+        @Override
+        int[] generate(int length, int pages, long seed) {
+            int loop = Math.min(LOOP_PAGES, pages);
+            int[] trace = new int[length];
+
+            for (int i = 0; i < length; i++) {
+                trace[i] = i % loop;
+            }
+
+            return trace;
+        }
+    },
+
+    /**
+     * Distribuição de Zipf (expoente 1) sobre as páginas, com a ordem de
+     * popularidade embaralhada para não coincidir com o número da página.
+     */
+    ZIPF {
+        @Override
+        int[] generate(int length, int pages, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+
+            double[] cumulative = new double[pages];
+            double sum = 0.0;
+            for (int rank = 0; rank < pages; rank++) {
+                sum += 1.0 / (rank + 1);
+                cumulative[rank] = sum;
+            }
+
+            int[] pageOfRank = new int[pages];
+            for (int i = 0; i < pages; i++) {
+                pageOfRank[i] = i;
+            }
+            for (int i = pages - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = pageOfRank[i];
+                pageOfRank[i] = pageOfRank[j];
+                pageOfRank[j] = swap;
+            }
+
+            int[] trace = new int[length];
+            for (int i = 0; i < length; i++) {
+                int rank = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+                trace[i] = pageOfRank[rank >= 0 ? rank : Math.min(-rank - 1, pages - 1)];
+            }
+
+            return trace;
+        }
+    };
+
+    static final int LOOP_PAGES = 16384;
+
+    abstract int[] generate(int length, int pages, long seed);
+}
@@ -2,7 +2,7 @@
 REM ====================================================
 REM Virtual Memory Paging Simulator - Build & Run
 REM Platform: Windows
-REM Usage: run.bat
+REM Usage: run.bat [--seed N]
 REM ====================================================
 
 setlocal enabledelayedexpansion
@@ -34,6 +34,10 @@ javac -d bin -encoding UTF-8 ^
     src\model\*.java ^
     src\parser\*.java ^
     src\policy\*.java ^
+    src\event\*.java ^
+    src\translation\*.java ^
+    src\util\*.java ^
+    src\analysis\*.java ^
     src\app\*.java
 
 if errorlevel 1 (
@@ -50,7 +54,7 @@ REM Run the simulator
 echo Running simulator...
 echo ------------------------------------------
 
-java -Dfile.encoding=UTF-8 -cp bin app.Application
+java -Dfile.encoding=UTF-8 -cp bin app.Application %*
 
 if errorlevel 1 (
     echo ------------------------------------------
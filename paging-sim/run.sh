@@ -3,7 +3,7 @@
 #####################################################
 # Virtual Memory Paging Simulator - Build & Run
 # Platform: macOS / Linux
-# Usage: ./run.sh
+# Usage: ./run.sh [--seed N]
 #####################################################
 
 set -e  # Exit on error
@@ -42,6 +42,10 @@ javac -d bin \
     src/model/*.java \
     src/parser/*.java \
     src/policy/*.java \
+    src/event/*.java \
+    src/translation/*.java \
+    src/util/*.java \
+    src/analysis/*.java \
     src/app/*.java
 
 if [ $? -eq 0 ]; then
@@ -56,7 +60,7 @@ echo ""
 # Run the simulator
 echo "Running simulator..."
 echo "------------------------------------------"
-java -cp bin app.Application
+java -cp bin app.Application "$@"
 
 if [ $? -eq 0 ]; then
     echo "------------------------------------------"
@@ -0,0 +1,51 @@
+package analysis;
+
+import java.util.Arrays;
+
+/**
+ * Árvore de Fenwick (Binary Indexed Tree) de contagens inteiras.
+ * Marca as posições de último acesso de cada página, de modo que a
+ * quantidade de páginas distintas acessadas depois de uma posição é obtida
+ * em O(log n).
+ */
+final class FenwickTree {
+
+    private int[] tree;
+    private int size;
+
+    FenwickTree(int size) {
+        this.tree = new int[size + 1];
+        this.size = size;
+    }
+
+    /**
+     * Redimensiona (se necessário) e zera a árvore para size posições.
+     */
+    void reset(int size) {
+        if (tree.length < size + 1) {
+            tree = new int[size + 1];
+        } else {
+            Arrays.fill(tree, 0, size + 1, 0);
+        }
+        this.size = size;
+    }
+
+    void add(int index, int delta) {
+        for (int i = index + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Soma das posições 0..index (inclusive); index < 0 retorna 0.
+     */
+    int prefixSum(int index) {
+        int sum = 0;
+
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,13 @@
+package analysis;
+
+import model.MissRatioCurve;
+import model.PageSequence;
+
+/**
+ * Calcula a curva de page faults de uma sequência para todas as quantidades
+ * de frames.
+ */
+public interface MissRatioAnalyzer {
+
+    MissRatioCurve analyze(PageSequence sequence);
+}
@@ -0,0 +1,118 @@
+package analysis;
+
+import model.MissRatioCurve;
+import model.PageSequence;
+import policy.PageTables;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Calcula os page faults do MIN (OPT de Belady) para todas as quantidades de
+ * frames em uma única passada, pelo algoritmo de pilha de Mattson com
+ * prioridade pelo próximo uso.
+ * A posição d de uma página na pilha é a menor quantidade de frames em que a
+ * referência é um acerto. Após cada referência a página vai ao topo e, no
+ * trecho acima de sua posição antiga, a página de uso mais distante vista até
+ * cada nível desce para ele (é a vítima do MIN com aquela quantidade de
+ * frames). O custo é proporcional à distância de cada referência; a
+ * varredura usa apenas arrays primitivos contíguos.
+ */
+public class OPTStackAnalyzer implements MissRatioAnalyzer {
+
+    private static final int ABSENT = -1;
+
+    private final int numberOfPages;
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (também o maior
+     *                      número de frames da curva); 0 deriva o tamanho da
+     *                      sequência
+     */
+    public OPTStackAnalyzer(int numberOfPages) {
+        this.numberOfPages = numberOfPages;
+    }
+
+    @Override
+    public MissRatioCurve analyze(PageSequence sequence) {
+        IntBuffer requests = sequence.asIntBuffer();
+        int start = requests.position();
+        int n = requests.remaining();
+        int pageCount = PageTables.pageCount(requests, numberOfPages);
+        long[] nextUse = buildNextUse(requests, pageCount);
+
+        int[] stack = new int[pageCount]; // stack[posição] = página (topo em 0)
+        long[] keys = new long[pageCount]; // keys[posição] = próximo uso da página
+        int[] positionOf = new int[pageCount];
+        Arrays.fill(positionOf, ABSENT);
+
+        long[] histogram = new long[pageCount + 1];
+        long coldMisses = 0;
+        int depth = 0;
+
+        for (int t = 0; t < n; t++) {
+            int page = requests.get(start + t);
+            int target = positionOf[page];
+
+            if (target == ABSENT) {
+                coldMisses++;
+                target = depth++;
+            } else {
+                histogram[target + 1]++;
+            }
+
+            if (target > 0) {
+                // carry = vítima do MIN com i frames: a de uso mais distante até i
+                int carry = stack[0];
+                long carryKey = keys[0];
+
+                for (int i = 1; i < target; i++) {
+                    long key = keys[i];
+
+                    if (key > carryKey) {
+                        int displaced = stack[i];
+
+                        stack[i] = carry;
+                        keys[i] = carryKey;
+                        positionOf[carry] = i;
+
+                        carry = displaced;
+                        carryKey = key;
+                    }
+                }
+
+                stack[target] = carry;
+                keys[target] = carryKey;
+                positionOf[carry] = target;
+            }
+
+            stack[0] = page;
+            keys[0] = nextUse[t];
+            positionOf[page] = 0;
+        }
+
+        return MissRatioCurve.fromHistogram("MIN", n, coldMisses, histogram, pageCount);
+    }
+
+    /**
+     * Próximo uso de cada requisição. Páginas sem uso futuro recebem
+     * n + página, chaves distintas e maiores que qualquer posição real.
+     */
+    private static long[] buildNextUse(IntBuffer requests, int pageCount) {
+        int offset = requests.position();
+        int n = requests.remaining();
+        long[] nextUse = new long[n];
+        long[] nextOccurrence = new long[pageCount];
+
+        for (int page = 0; page < pageCount; page++) {
+            nextOccurrence[page] = (long) n + page;
+        }
+
+        for (int i = n - 1; i >= 0; i--) {
+            int page = requests.get(offset + i);
+            nextUse[i] = nextOccurrence[page];
+            nextOccurrence[page] = i;
+        }
+
+        return nextUse;
+    }
+}
@@ -0,0 +1,210 @@
+package analysis;
+
+import model.MissRatioCurve;
+import model.PageSequence;
+import policy.PageTables;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Versão paralela do StackDistanceAnalyzer para sequências muito grandes.
+ * A sequência é dividida em blocos processados como RecursiveTasks: cada
+ * bloco calcula as distâncias das referências cujo acesso anterior está no
+ * próprio bloco e devolve, em ordem, as primeiras referências (não
+ * resolvidas) de cada página e a posição do seu último acesso.
+ * A junção percorre os blocos em ordem com uma árvore de Fenwick global sobre
+ * os últimos acessos: a j-ésima primeira referência de um bloco tem distância
+ * j + 1 + (páginas cujo último acesso está entre o acesso anterior da página
+ * e o início do bloco, excluídas as já vistas no bloco). O resultado é
+ * idêntico ao da versão sequencial.
+ */
+public class ParallelStackDistanceAnalyzer implements MissRatioAnalyzer {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private static final int NEVER = StackDistanceAnalyzer.NEVER;
+
+    private final int numberOfPages;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final ThreadLocal<int[]> localTables = ThreadLocal.withInitial(() -> new int[0]);
+
+    public ParallelStackDistanceAnalyzer(int numberOfPages, ForkJoinPool pool) {
+        this(numberOfPages, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize quantidade máxima de requisições por bloco
+     */
+    public ParallelStackDistanceAnalyzer(int numberOfPages, ForkJoinPool pool, int chunkSize) {
+        this.numberOfPages = numberOfPages;
+        this.pool = pool;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public MissRatioCurve analyze(PageSequence sequence) {
+        IntBuffer requests = sequence.asIntBuffer();
+        int n = requests.remaining();
+        int pageCount = PageTables.pageCount(requests, numberOfPages);
+
+        ChunkTask task = new ChunkTask(requests, pageCount, 0, n);
+        List<Chunk> chunks = ForkJoinTask.getPool() == pool ? task.invoke() : pool.invoke(task);
+
+        return merge(chunks, n, pageCount);
+    }
+
+    private MissRatioCurve merge(List<Chunk> chunks, int n, int pageCount) {
+        FenwickTree lastAccessMarks = new FenwickTree(n);
+        int[] lastAccess = new int[pageCount];
+        Arrays.fill(lastAccess, NEVER);
+
+        long[] histogram = new long[pageCount + 1];
+        long coldMisses = 0;
+        int marked = 0;
+
+        for (Chunk chunk : chunks) {
+            for (int d = 1; d < chunk.histogram.length; d++) {
+                histogram[d] += chunk.histogram[d];
+            }
+
+            for (int j = 0; j < chunk.distinctPages; j++) {
+                int previous = lastAccess[chunk.pages[j]];
+
+                if (previous == NEVER) {
+                    coldMisses++;
+                    continue;
+                }
+
+                // As j páginas já vistas no bloco tiveram suas marcas removidas
+                histogram[j + 1 + marked - lastAccessMarks.prefixSum(previous)]++;
+                lastAccessMarks.add(previous, -1);
+                marked--;
+            }
+
+            for (int j = 0; j < chunk.distinctPages; j++) {
+                lastAccessMarks.add(chunk.lastPositions[j], 1);
+                lastAccess[chunk.pages[j]] = chunk.lastPositions[j];
+            }
+            marked += chunk.distinctPages;
+        }
+
+        return MissRatioCurve.fromHistogram("LRU", n, coldMisses, histogram, pageCount);
+    }
+
+    private Chunk analyzeChunk(IntBuffer requests, int pageCount, int from, int to) {
+        int[] last = localTable(pageCount);
+        int start = requests.position() + from;
+        int length = to - from;
+        int maxDistinct = Math.min(length, pageCount);
+
+        FenwickTree marks = new FenwickTree(length);
+        int[] pages = new int[maxDistinct];
+        long[] histogram = new long[maxDistinct + 1];
+        int distinctPages = 0;
+        int marked = 0;
+
+        for (int t = 0; t < length; t++) {
+            int page = requests.get(start + t);
+            int previous = last[page];
+
+            if (previous == NEVER) {
+                pages[distinctPages++] = page;
+                marked++;
+            } else {
+                histogram[marked - marks.prefixSum(previous) + 1]++;
+                marks.add(previous, -1);
+            }
+
+            marks.add(t, 1);
+            last[page] = t;
+        }
+
+        // Converte para posições globais e devolve a tabela limpa à thread
+        int[] lastPositions = new int[distinctPages];
+        for (int j = 0; j < distinctPages; j++) {
+            lastPositions[j] = from + last[pages[j]];
+            last[pages[j]] = NEVER;
+        }
+
+        return new Chunk(pages, lastPositions, distinctPages, histogram);
+    }
+
+    private int[] localTable(int pageCount) {
+        int[] table = localTables.get();
+
+        if (table.length < pageCount) {
+            table = new int[pageCount];
+            Arrays.fill(table, NEVER);
+            localTables.set(table);
+        }
+
+        return table;
+    }
+
+    /**
+     * Resumo de um bloco: páginas na ordem da primeira referência, posição
+     * global do último acesso de cada uma e histograma das distâncias já
+     * resolvidas dentro do bloco.
+     */
+    private static final class Chunk {
+
+        private final int[] pages;
+        private final int[] lastPositions;
+        private final int distinctPages;
+        private final long[] histogram;
+
+        Chunk(int[] pages, int[] lastPositions, int distinctPages, long[] histogram) {
+            this.pages = pages;
+            this.lastPositions = lastPositions;
+            this.distinctPages = distinctPages;
+            this.histogram = histogram;
+        }
+    }
+
+    /**
+     * Divide o intervalo [from, to) ao meio até o tamanho do bloco e devolve
+     * os resumos na ordem da sequência.
+     */
+    private final class ChunkTask extends RecursiveTask<List<Chunk>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IntBuffer requests;
+        private final int pageCount;
+        private final int from;
+        private final int to;
+
+        ChunkTask(IntBuffer requests, int pageCount, int from, int to) {
+            this.requests = requests;
+            this.pageCount = pageCount;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Chunk> compute() {
+            if (to - from <= chunkSize) {
+                List<Chunk> chunks = new ArrayList<>();
+                chunks.add(analyzeChunk(requests, pageCount, from, to));
+                return chunks;
+            }
+
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(requests, pageCount, from, middle);
+            ChunkTask right = new ChunkTask(requests, pageCount, middle, to);
+
+            left.fork();
+            List<Chunk> rightChunks = right.compute();
+            List<Chunk> chunks = left.join();
+            chunks.addAll(rightChunks);
+
+            return chunks;
+        }
+    }
+}
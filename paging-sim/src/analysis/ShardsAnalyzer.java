@@ -0,0 +1,236 @@
+package analysis;
+
+import exception.InvalidConfigurationException;
+import model.MissRatioCurve;
+import model.PageSequence;
+import policy.PageTables;
+import util.IntIntHashMap;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Curva de page faults do LRU aproximada por amostragem espacial (SHARDS).
+ * Uma página é amostrada quando o hash do seu número fica abaixo de um
+ * limiar; a análise de distâncias de pilha é feita apenas sobre as
+ * referências amostradas e cada distância é reescalada pela taxa 1/R.
+ * No máximo maxTrackedPages páginas são rastreadas: ao exceder o limite, o
+ * limiar cai para o maior hash rastreado e as páginas acima dele deixam a
+ * amostra. A memória usada não depende da quantidade de páginas distintas.
+ */
+public class ShardsAnalyzer implements MissRatioAnalyzer {
+
+    public static final double DEFAULT_RATE = 1.0;
+    public static final int DEFAULT_MAX_TRACKED_PAGES = 8192;
+
+    private static final int HASH_BITS = 24;
+    private static final int MODULUS = 1 << HASH_BITS;
+    private static final int NEVER = StackDistanceAnalyzer.NEVER;
+
+    private final int numberOfPages;
+    private final double initialRate;
+    private final int maxTrackedPages;
+
+    private final IntIntHashMap timestampOf; // página -> instante do último acesso
+    private final int[] pageAt; // instante -> página (NEVER se livre)
+    private final FenwickTree lastAccessMarks;
+    private final long[] heap; // máximo por (hash << 32 | página) das páginas rastreadas
+    private int heapSize;
+    private int clock;
+    private int threshold;
+
+    /**
+     * @param initialRate     taxa de amostragem inicial, em (0, 1]
+     * @param maxTrackedPages quantidade máxima de páginas rastreadas
+     */
+    public ShardsAnalyzer(int numberOfPages, double initialRate, int maxTrackedPages) {
+        if (!(initialRate > 0.0 && initialRate <= 1.0)) {
+            throw new InvalidConfigurationException(
+                    String.format("Taxa de amostragem (%s) deve estar em (0, 1]", initialRate));
+        }
+        if (maxTrackedPages <= 0) {
+            throw new InvalidConfigurationException(
+                    String.format("Limite de páginas amostradas (%d) deve ser positivo", maxTrackedPages));
+        }
+
+        this.numberOfPages = numberOfPages;
+        this.initialRate = initialRate;
+        this.maxTrackedPages = maxTrackedPages;
+
+        // Espaço para o dobro de instantes entre compactações
+        int capacity = 2 * (maxTrackedPages + 1);
+        this.timestampOf = new IntIntHashMap(maxTrackedPages + 1, NEVER);
+        this.pageAt = new int[capacity];
+        this.lastAccessMarks = new FenwickTree(capacity);
+        this.heap = new long[maxTrackedPages + 1];
+    }
+
+    @Override
+    public MissRatioCurve analyze(PageSequence sequence) {
+        IntBuffer requests = sequence.asIntBuffer();
+        int n = requests.remaining();
+        int pageCount = PageTables.pageCount(requests, numberOfPages);
+
+        reset();
+
+        // weights[d] = peso das referências com distância reescalada d;
+        // pageCount + 1 acumula as distâncias além da maior quantidade de frames
+        double[] weights = new double[pageCount + 2];
+        double missWeight = 0.0;
+        double sampledWeight = 0.0;
+
+        for (int i = requests.position(); i < requests.limit(); i++) {
+            int page = requests.get(i);
+            int hash = hash(page);
+
+            if (hash >= threshold) {
+                continue;
+            }
+
+            double weight = (double) MODULUS / threshold;
+            sampledWeight += weight;
+            int previous = timestampOf.get(page);
+
+            if (previous == NEVER) {
+                missWeight += weight;
+                track(page, hash);
+            } else {
+                int distance = timestampOf.size() - lastAccessMarks.prefixSum(previous) + 1;
+                long scaled = Math.max(1L, Math.round(distance * weight));
+                weights[(int) Math.min(scaled, pageCount + 1L)] += weight;
+
+                lastAccessMarks.add(previous, -1);
+                pageAt[previous] = NEVER;
+                touch(page);
+            }
+        }
+
+        // Normaliza pelo peso amostrado: corrige a super ou sub-representação
+        // das páginas mais acessadas na amostra
+        double scale = sampledWeight > 0.0 ? n / sampledWeight : 0.0;
+        long[] faults = new long[pageCount + 1];
+        double beyond = missWeight + weights[pageCount + 1];
+
+        for (int k = pageCount; k >= 1; k--) {
+            faults[k] = Math.min(n, Math.round(beyond * scale));
+            beyond += weights[k];
+        }
+
+        faults[0] = n;
+        return new MissRatioCurve("LRU-SHARDS", n, faults);
+    }
+
+    private void reset() {
+        timestampOf.clear();
+        Arrays.fill(pageAt, NEVER);
+        lastAccessMarks.reset(pageAt.length);
+        heapSize = 0;
+        clock = 0;
+        threshold = (int) Math.max(1L, Math.min(MODULUS, Math.round(initialRate * MODULUS)));
+    }
+
+    private void track(int page, int hash) {
+        touch(page);
+        push(((long) hash << 32) | (page & 0xFFFFFFFFL));
+
+        if (heapSize <= maxTrackedPages) {
+            return;
+        }
+
+        // Reduz o limiar até o maior hash rastreado e descarta as páginas acima
+        threshold = (int) (heap[0] >>> 32);
+
+        while (heapSize > 0 && (int) (heap[0] >>> 32) >= threshold) {
+            int evicted = (int) pop();
+            int timestamp = timestampOf.remove(evicted);
+
+            lastAccessMarks.add(timestamp, -1);
+            pageAt[timestamp] = NEVER;
+        }
+    }
+
+    // Atribui um novo instante à página (ainda sem marca)
+    private void touch(int page) {
+        if (clock == pageAt.length) {
+            compact();
+        }
+
+        int timestamp = clock++;
+        lastAccessMarks.add(timestamp, 1);
+        pageAt[timestamp] = page;
+        timestampOf.put(page, timestamp);
+    }
+
+    // Renumera os instantes vivos em ordem, liberando o restante do espaço
+    private void compact() {
+        int live = 0;
+
+        for (int t = 0; t < clock; t++) {
+            int page = pageAt[t];
+
+            if (page != NEVER) {
+                pageAt[t] = NEVER;
+                pageAt[live] = page;
+                timestampOf.put(page, live);
+                live++;
+            }
+        }
+
+        lastAccessMarks.reset(pageAt.length);
+        for (int t = 0; t < live; t++) {
+            lastAccessMarks.add(t, 1);
+        }
+
+        clock = live;
+    }
+
+    private void push(long entry) {
+        int pos = heapSize++;
+
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (heap[parent] >= entry) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+
+        heap[pos] = entry;
+    }
+
+    private long pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int pos = 0;
+        int half = heapSize >>> 1;
+
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < heapSize && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= last) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+
+        if (heapSize > 0) {
+            heap[pos] = last;
+        }
+
+        return top;
+    }
+
+    // Hash de 24 bits (finalizador do MurmurHash3)
+    private static int hash(int page) {
+        int h = page;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h & (MODULUS - 1);
+    }
+}
@@ -0,0 +1,73 @@
+package analysis;
+
+import model.MissRatioCurve;
+import model.PageSequence;
+import policy.PageTables;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Calcula a curva de page faults do LRU para todas as quantidades de frames
+ * em uma única passada (algoritmo de pilha de Mattson).
+ * Como o LRU é um algoritmo de pilha, uma referência causa falta com k frames
+ * se e somente se sua distância de pilha (páginas distintas acessadas desde
+ * o último acesso à mesma página, ela inclusa) for maior que k. As distâncias
+ * são obtidas com uma árvore de Fenwick sobre os instantes de último acesso,
+ * em O(n log n) no total.
+ */
+public class StackDistanceAnalyzer implements MissRatioAnalyzer {
+
+    static final int NEVER = -1;
+
+    private final int numberOfPages;
+    private final FenwickTree lastAccessMarks;
+    private int[] lastAccess; // lastAccess[página] = instante do último acesso
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (também o maior
+     *                      número de frames da curva); 0 deriva o tamanho da
+     *                      sequência
+     */
+    public StackDistanceAnalyzer(int numberOfPages) {
+        this.numberOfPages = numberOfPages;
+        this.lastAccessMarks = new FenwickTree(0);
+        this.lastAccess = new int[Math.max(numberOfPages, 0)];
+    }
+
+    @Override
+    public MissRatioCurve analyze(PageSequence sequence) {
+        IntBuffer requests = sequence.asIntBuffer();
+        int start = requests.position();
+        int n = requests.remaining();
+        int pageCount = PageTables.pageCount(requests, numberOfPages);
+
+        if (lastAccess.length < pageCount) {
+            lastAccess = new int[pageCount];
+        }
+        Arrays.fill(lastAccess, 0, pageCount, NEVER);
+        lastAccessMarks.reset(n);
+
+        long[] histogram = new long[pageCount + 1];
+        long coldMisses = 0;
+        int marked = 0;
+
+        for (int t = 0; t < n; t++) {
+            int page = requests.get(start + t);
+            int previous = lastAccess[page];
+
+            if (previous == NEVER) {
+                coldMisses++;
+                marked++;
+            } else {
+                // Páginas com último acesso posterior a previous, mais a própria
+                histogram[marked - lastAccessMarks.prefixSum(previous) + 1]++;
+                lastAccessMarks.add(previous, -1);
+            }
+
+            lastAccessMarks.add(t, 1);
+            lastAccess[page] = t;
+        }
+
+        return MissRatioCurve.fromHistogram("LRU", n, coldMisses, histogram, pageCount);
+    }
+}
@@ -1,126 +1,416 @@
-package app;
-
-import exception.InvalidConfigurationException;
-import exception.InvalidInputException;
-import exception.SimulatorException;
-import model.SystemConfiguration;
-import model.PageSequence;
-import model.SimulationResult;
-import parser.InputParser;
-import policy.FIFOPolicy;
-import policy.LRUPolicy;
-import policy.OPTPolicy;
-import policy.RANDPolicy;
-import policy.PageReplacementPolicy;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
-import java.util.List;
-import java.util.Scanner;
-
-/**
- * Aplicação principal do simulador de memória virtual.
- * Processa todos os arquivos .txt da pasta input/ e gera saídas na pasta
- * output/
- * aplicando as 4 políticas de substituição: FIFO, RAND, LRU e MIN (OPT).
- */
-public class Application {
-
-    private static final String INPUT_DIR = "input";
-    private static final String OUTPUT_DIR = "output";
-
-    public static void main(String[] args) {
-        createOutputDirectory();
-
-        File inputDir = new File(INPUT_DIR);
-
-        if (!inputDir.exists() || !inputDir.isDirectory()) {
-            System.err.println("Erro: Pasta 'input/' não encontrada!");
-            System.err.println("Crie a pasta 'input/' e adicione arquivos .txt de entrada.");
-            System.exit(1);
-        }
-
-        File[] inputFiles = inputDir.listFiles((dir, name) -> name.endsWith(".txt"));
-
-        if (inputFiles == null || inputFiles.length == 0) {
-            System.err.println("Erro: Nenhum arquivo .txt encontrado na pasta 'input/'");
-            System.exit(1);
-        }
-
-        for (File inputFile : inputFiles) {
-            processFile(inputFile);
-        }
-
-    }
-
-    private static void createOutputDirectory() {
-        File outputDir = new File(OUTPUT_DIR);
-
-        if (!outputDir.exists()) {
-            outputDir.mkdirs();
-        }
-    }
-
-    private static void processFile(File inputFile) {
-        String inputFileName = inputFile.getName();
-        String outputFileName = inputFileName.replace(".txt", "_output.txt");
-        File outputFile = new File(OUTPUT_DIR, outputFileName);
-
-        try (Scanner sc = new Scanner(new FileInputStream(inputFile));
-                PrintWriter writer = new PrintWriter(outputFile)) {
-
-            InputParser parser = new InputParser(sc);
-
-            SystemConfiguration config = parser.readConfiguration();
-
-            List<PageSequence> sequences = parser.readSequences(config);
-
-            writer.println(config.getPageSize());
-            writer.println(config.getNumberOfFrames());
-            writer.println(config.getSwapSize());
-            writer.println();
-
-            for (int i = 0; i < sequences.size(); i++) {
-                PageSequence sequence = sequences.get(i);
-
-                // Adiciona linha em branco antes da segunda sequência em diante
-                if (i > 0) {
-                    writer.println();
-                }
-
-                writer.println(i + 1);
-                writer.println();
-                writer.println(sequence);
-
-                // Executa todas as políticas na ordem: FIFO, RAND, LRU, MIN
-                PageReplacementPolicy[] policies = {
-                        new FIFOPolicy(),
-                        new RANDPolicy(),
-                        new LRUPolicy(),
-                        new OPTPolicy()
-                };
-
-                for (PageReplacementPolicy policy : policies) {
-                    SimulationResult result = policy.simulate(sequence, config.getNumberOfFrames());
-
-                    writer.println(result.getPolicyName());
-                    writer.println(result.getExecutionTimeSeconds());
-                    writer.println(result.getPageFaults());
-                    writer.println(result.getSwapStateFormatted());
-                }
-            }
-        } catch (FileNotFoundException e) {
-            System.err.println("Arquivo não encontrado - " + inputFileName);
-        } catch (InvalidInputException e) {
-            System.err.println("Erro na entrada (" + inputFileName + "): " + e.getMessage());
-        } catch (InvalidConfigurationException e) {
-            System.err.println("Erro na configuração (" + inputFileName + "): " + e.getMessage());
-        } catch (SimulatorException e) {
-            System.err.println("Erro no simulador (" + inputFileName + "): " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Erro inesperado (" + inputFileName + "): " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-}
+package app;
+
+import exception.InvalidConfigurationException;
+import exception.InvalidInputException;
+import exception.SimulatorException;
+import model.SystemConfiguration;
+import model.PageSequence;
+import model.SimulationMetrics;
+import model.SimulationResult;
+import model.TranslationMetrics;
+import parser.BinaryTraceReader;
+import parser.BinaryTraceWriter;
+import parser.FastInputParser;
+import parser.InputParser;
+import parser.SequenceListener;
+import parser.TraceParser;
+import policy.PageReplacementPolicy;
+import translation.AddressTranslator;
+import util.IntListWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Scanner;
+
+/**
+ * Aplicação principal do simulador de memória virtual.
+ * Processa todos os arquivos .txt da pasta input/ e gera saídas na pasta
+ * output/
+ * aplicando as 4 políticas de substituição: FIFO, RAND, LRU e MIN (OPT).
+ */
+public class Application {
+
+    private static final String INPUT_DIR = "input";
+    private static final String OUTPUT_DIR = "output";
+    static final String OUTPUT_SUFFIX = "_output.txt";
+    static final String CURVE_SUFFIX = "_mrc.txt";
+    static final String SHARED_SUFFIX = "_shared.txt";
+    static final String EVENTS_SUFFIX = "_events.bin";
+    static final String FAULT_RATE_SUFFIX = "_faultrate.txt";
+
+    public static void main(String[] args) {
+        SimulatorOptions options = parseOptions(args);
+
+        createOutputDirectory();
+
+        File inputDir = new File(INPUT_DIR);
+
+        if (!inputDir.exists() || !inputDir.isDirectory()) {
+            System.err.println("Erro: Pasta 'input/' não encontrada!");
+            System.err.println("Crie a pasta 'input/' e adicione arquivos .txt de entrada.");
+            System.exit(1);
+        }
+
+        String extension = options.isBinaryInput() ? BinaryTraceReader.FILE_EXTENSION : ".txt";
+        File[] inputFiles = inputDir.listFiles((dir, name) -> name.endsWith(extension));
+
+        if (inputFiles == null || inputFiles.length == 0) {
+            System.err.println("Erro: Nenhum arquivo " + extension + " encontrado na pasta 'input/'");
+            System.exit(1);
+        }
+
+        if (options.getJobs() > 0) {
+            new BatchRunner(options, new File(OUTPUT_DIR)).run(inputFiles);
+            return;
+        }
+
+        try (SimulationRunner runner = new SimulationRunner(options)) {
+            for (File inputFile : inputFiles) {
+                if (options.isConvertOnly()) {
+                    convertFile(inputFile);
+                } else {
+                    processFile(inputFile, options, runner);
+                }
+            }
+        }
+
+    }
+
+    private static void convertFile(File inputFile) {
+        String binaryFileName = inputFile.getName().replace(".txt", BinaryTraceReader.FILE_EXTENSION);
+        File binaryFile = new File(inputFile.getParentFile(), binaryFileName);
+
+        try {
+            BinaryTraceWriter.convert(inputFile, binaryFile);
+            System.out.println("Convertido: " + inputFile.getName() + " -> " + binaryFileName);
+        } catch (IOException e) {
+            System.err.println("Erro ao converter (" + inputFile.getName() + "): " + e.getMessage());
+        } catch (SimulatorException e) {
+            System.err.println("Erro na entrada (" + inputFile.getName() + "): " + e.getMessage());
+        }
+    }
+
+    private static SimulatorOptions parseOptions(String[] args) {
+        try {
+            return SimulatorOptions.parse(args);
+        } catch (InvalidInputException e) {
+            System.err.println("Erro nos argumentos: " + e.getMessage());
+            System.exit(1);
+            return null;
+        }
+    }
+
+    private static void createOutputDirectory() {
+        File outputDir = new File(OUTPUT_DIR);
+
+        if (!outputDir.exists()) {
+            outputDir.mkdirs();
+        }
+    }
+
+    private static void processFile(File inputFile, SimulatorOptions options, SimulationRunner runner) {
+        if (options.isBinaryInput()) {
+            processBinaryFile(inputFile, options, runner);
+            return;
+        }
+
+        String inputFileName = inputFile.getName();
+        String outputFileName = inputFileName.replace(".txt", OUTPUT_SUFFIX);
+        File outputFile = new File(OUTPUT_DIR, outputFileName);
+
+        try (FileInputStream input = new FileInputStream(inputFile);
+                PrintWriter writer = new PrintWriter(outputFile)) {
+
+            TraceParser parser = options.isFastParser()
+                    ? new FastInputParser(input.getChannel())
+                    : new InputParser(new Scanner(input));
+
+            SystemConfiguration config = parser.readConfiguration();
+
+            if (options.isStreaming()) {
+                writeConfiguration(writer, config);
+                parser.streamSequences(config, new StreamingSimulation(writer, config, options),
+                        SimulatorOptions.DEFAULT_CHUNK_SIZE);
+                return;
+            }
+
+            List<PageSequence> sequences = parser.readSequences(config);
+
+            List<SimulationResult[]> results = writeSimulation(writer, config, sequences, runner, options);
+
+            if (options.isMissRatioCurve()) {
+                MissRatioReport.write(new File(OUTPUT_DIR, inputFileName.replace(".txt", CURVE_SUFFIX)),
+                        config, sequences, results, options, runner.getPool());
+            }
+
+            if (options.isSharedMemory()) {
+                SharedMemoryReport.write(new File(OUTPUT_DIR, inputFileName.replace(".txt", SHARED_SUFFIX)),
+                        config, sequences, options);
+            }
+
+            writeEvents(inputFileName.replace(".txt", ""), config, sequences, options);
+        } catch (FileNotFoundException e) {
+            System.err.println("Arquivo não encontrado - " + inputFileName);
+        } catch (IOException e) {
+            System.err.println("Erro de E/S (" + inputFileName + "): " + e.getMessage());
+        } catch (InvalidInputException e) {
+            System.err.println("Erro na entrada (" + inputFileName + "): " + e.getMessage());
+        } catch (InvalidConfigurationException e) {
+            System.err.println("Erro na configuração (" + inputFileName + "): " + e.getMessage());
+        } catch (SimulatorException e) {
+            System.err.println("Erro no simulador (" + inputFileName + "): " + e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Erro inesperado (" + inputFileName + "): " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Simula um trace binário: as sequências são visões mapeadas do arquivo,
+     * sem parsing.
+     */
+    private static void processBinaryFile(File inputFile, SimulatorOptions options, SimulationRunner runner) {
+        String inputFileName = inputFile.getName();
+        String outputFileName = inputFileName.replace(BinaryTraceReader.FILE_EXTENSION, OUTPUT_SUFFIX);
+        File outputFile = new File(OUTPUT_DIR, outputFileName);
+
+        try (BinaryTraceReader reader = new BinaryTraceReader(inputFile);
+                PrintWriter writer = new PrintWriter(outputFile)) {
+
+            SystemConfiguration config = reader.readConfiguration();
+            List<PageSequence> sequences = reader.readSequences(config);
+
+            List<SimulationResult[]> results = writeSimulation(writer, config, sequences, runner, options);
+
+            if (options.isMissRatioCurve()) {
+                MissRatioReport.write(new File(OUTPUT_DIR,
+                        inputFileName.replace(BinaryTraceReader.FILE_EXTENSION, CURVE_SUFFIX)), config, sequences,
+                        results, options, runner.getPool());
+            }
+
+            if (options.isSharedMemory()) {
+                SharedMemoryReport.write(new File(OUTPUT_DIR,
+                        inputFileName.replace(BinaryTraceReader.FILE_EXTENSION, SHARED_SUFFIX)), config, sequences,
+                        options);
+            }
+
+            writeEvents(inputFileName.replace(BinaryTraceReader.FILE_EXTENSION, ""), config, sequences, options);
+        } catch (IOException e) {
+            System.err.println("Erro ao ler arquivo binário (" + inputFileName + "): " + e.getMessage());
+        } catch (InvalidInputException e) {
+            System.err.println("Erro na entrada (" + inputFileName + "): " + e.getMessage());
+        } catch (InvalidConfigurationException e) {
+            System.err.println("Erro na configuração (" + inputFileName + "): " + e.getMessage());
+        } catch (SimulatorException e) {
+            System.err.println("Erro no simulador (" + inputFileName + "): " + e.getMessage());
+        }
+    }
+
+    private static void writeEvents(String baseName, SystemConfiguration config, List<PageSequence> sequences,
+            SimulatorOptions options) throws IOException {
+        if (!options.isEventLog() && options.getFaultRateWindow() == 0) {
+            return;
+        }
+
+        EventReport.write(options.isEventLog() ? new File(OUTPUT_DIR, baseName + EVENTS_SUFFIX) : null,
+                options.getFaultRateWindow() > 0 ? new File(OUTPUT_DIR, baseName + FAULT_RATE_SUFFIX) : null,
+                config, sequences, options);
+    }
+
+    private static List<SimulationResult[]> writeSimulation(PrintWriter writer, SystemConfiguration config,
+            List<PageSequence> sequences, SimulationRunner runner, SimulatorOptions options) {
+        List<SimulationResult[]> results = new ArrayList<>(sequences.size());
+        writeConfiguration(writer, config);
+
+        for (int i = 0; i < sequences.size(); i++) {
+            PageSequence sequence = sequences.get(i);
+
+            // Executa todas as políticas na ordem: FIFO, RAND, LRU, MIN
+            results.add(runner.run(config, sequence));
+            writeSequence(writer, i, sequence, results.get(i), options);
+        }
+
+        return results;
+    }
+
+    static void writeSequence(PrintWriter writer, int sequenceIndex, PageSequence sequence,
+            SimulationResult[] results, SimulatorOptions options) {
+        // Adiciona linha em branco antes da segunda sequência em diante
+        if (sequenceIndex > 0) {
+            writer.println();
+        }
+
+        writer.println(sequenceIndex + 1);
+        writer.println();
+        writeRequests(writer, sequence);
+
+        for (SimulationResult result : results) {
+            writeResult(writer, result, options);
+        }
+    }
+
+    static void writeConfiguration(PrintWriter writer, SystemConfiguration config) {
+        writer.println(config.getPageSize());
+        writer.println(config.getNumberOfFrames());
+        writer.println(config.getSwapSize());
+        writer.println();
+    }
+
+    static void writeResult(PrintWriter writer, SimulationResult result, SimulatorOptions options) {
+        writer.println(result.getPolicyName());
+        writer.println(result.getExecutionTimeSeconds());
+        writer.println(result.getPageFaults());
+        writeSwapState(writer, result);
+
+        if (options.isMetrics()) {
+            writeMetrics(writer, result.getMetrics());
+        }
+
+        if (result.getTranslation() != null) {
+            writeTranslation(writer, result.getTranslation());
+        }
+    }
+
+    private static void writeRequests(PrintWriter writer, PageSequence sequence) {
+        IntListWriter requests = new IntListWriter(writer);
+
+        for (int i = 0; i < sequence.size(); i++) {
+            requests.add(sequence.get(i));
+        }
+
+        writer.println();
+    }
+
+    // Páginas do swap em ordem crescente, ou "0" se o swap estiver vazio
+    private static void writeSwapState(PrintWriter writer, SimulationResult result) {
+        IntListWriter pages = new IntListWriter(writer);
+
+        for (int page = result.nextSwapPage(0); page >= 0; page = result.nextSwapPage(page + 1)) {
+            pages.add(page);
+        }
+
+        if (pages.isEmpty()) {
+            writer.print('0');
+        }
+
+        writer.println();
+    }
+
+    /**
+     * Linha única de pares chave=valor, após o bloco do resultado.
+     */
+    static void writeMetrics(PrintWriter writer, SimulationMetrics metrics) {
+        writer.print("tempo_ns=");
+        writer.print(metrics.getElapsedNanos());
+        writer.print(" req_s=");
+        writer.print(Math.round(metrics.getRequestsPerSecond()));
+        writer.print(" acertos=");
+        writer.print(metrics.getHits());
+        writer.print(" faltas=");
+        writer.print(metrics.getMisses());
+        writer.print(" despejos=");
+        writer.print(metrics.getEvictions());
+        writer.print(" bytes_alocados=");
+        writer.print(metrics.getAllocatedBytes());
+        writer.print(" media_residentes=");
+        writer.print(String.format(Locale.ROOT, "%.2f", metrics.getAverageResidentPages()));
+        writer.print(" pico_residentes=");
+        writer.print(metrics.getPeakResidentPages());
+
+        if (metrics.getWriteBacks() != SimulationMetrics.UNSUPPORTED) {
+            writer.print(" escritas=");
+            writer.print(metrics.getWriteBacks());
+        }
+
+        writer.println();
+    }
+
+    /**
+     * Linha de pares chave=valor da tradução de endereços (--tlb).
+     */
+    static void writeTranslation(PrintWriter writer, TranslationMetrics translation) {
+        writer.print("tlb_acertos=");
+        writer.print(translation.getTlbHits());
+        writer.print(" tlb_taxa=");
+        writer.print(String.format(Locale.ROOT, "%.4f", translation.getTlbHitRate()));
+        writer.print(" percursos=");
+        writer.print(translation.getWalks());
+        writer.print(" niveis=");
+        writer.print(translation.getWalkLevels());
+        writer.print(" ciclos_acesso=");
+        writer.print(String.format(Locale.ROOT, "%.2f", translation.getCyclesPerAccess()));
+        writer.print(" alcance_tlb=");
+        writer.println(translation.getTlbReach());
+    }
+
+    /**
+     * Simula as sequências à medida que o parser entrega os blocos de
+     * requisições, ecoando a sequência na saída sem mantê-la em memória.
+     * As políticas e os tradutores são criados uma vez por arquivo e
+     * reaproveitados entre as sequências: begin() reinicia o estado.
+     */
+    private static final class StreamingSimulation implements SequenceListener {
+
+        private final PrintWriter writer;
+        private final SystemConfiguration config;
+        private final SimulatorOptions options;
+        private final PageReplacementPolicy[] policies;
+        private final AddressTranslator[] translators;
+        private IntListWriter requests;
+
+        StreamingSimulation(PrintWriter writer, SystemConfiguration config, SimulatorOptions options) {
+            this.writer = writer;
+            this.config = config;
+            this.options = options;
+            this.policies = SimulationRunner.createPolicies(config, options);
+            this.translators = new AddressTranslator[policies.length];
+
+            for (int i = 0; i < policies.length; i++) {
+                translators[i] = SimulationRunner.attachTranslator(policies[i], config, options);
+            }
+        }
+
+        @Override
+        public void beginSequence(int sequenceIndex, int numberOfRequests) {
+            if (sequenceIndex > 0) {
+                writer.println();
+            }
+
+            writer.println(sequenceIndex + 1);
+            writer.println();
+
+            for (PageReplacementPolicy policy : policies) {
+                policy.begin(config.getNumberOfFrames());
+            }
+
+            requests = new IntListWriter(writer);
+        }
+
+        @Override
+        public void onRequests(int[] chunk, int length) {
+            for (int i = 0; i < length; i++) {
+                requests.add(chunk[i]);
+            }
+
+            for (PageReplacementPolicy policy : policies) {
+                for (int i = 0; i < length; i++) {
+                    policy.access(chunk[i]);
+                }
+            }
+        }
+
+        @Override
+        public void endSequence(int sequenceIndex) {
+            writer.println();
+
+            for (int i = 0; i < policies.length; i++) {
+                writeResult(writer, SimulationRunner.withTranslation(policies[i].finish(), translators[i]), options);
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package app;
+
+import exception.InvalidConfigurationException;
+import exception.InvalidInputException;
+import exception.SimulatorException;
+import model.MissRatioCurve;
+import model.PageSequence;
+import model.SimulationResult;
+import model.SystemConfiguration;
+import parser.BinaryTraceReader;
+import parser.FastInputParser;
+import parser.InputParser;
+import parser.TraceParser;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Processamento em lote: distribui arquivos e sequências entre os workers de
+ * um ForkJoinPool com o paralelismo de --jobs.
+ * A saída de cada arquivo é montada na ordem das sequências em um arquivo
+ * temporário e renomeada ao final, de modo que output/ nunca contém saídas
+ * parciais. Ao término é exibido um resumo com o tempo de cada arquivo e a
+ * vazão total.
+ */
+public class BatchRunner {
+
+    private final SimulatorOptions options;
+    private final File outputDir;
+    private final ForkJoinPool pool;
+
+    public BatchRunner(SimulatorOptions options, File outputDir) {
+        this.options = options;
+        this.outputDir = outputDir;
+        this.pool = new ForkJoinPool(options.getJobs());
+    }
+
+    /**
+     * Processa os arquivos e encerra o pool; o runner atende um único lote.
+     */
+    public void run(File[] inputFiles) {
+        SimulationRunner runner = new SimulationRunner(options, pool);
+        long start = System.nanoTime();
+
+        try {
+            List<FileReport> reports = pool.submit(() -> processAll(inputFiles, runner)).join();
+            printSummary(reports, System.nanoTime() - start);
+        } finally {
+            runner.close();
+            pool.shutdown();
+        }
+    }
+
+    private List<FileReport> processAll(File[] inputFiles, SimulationRunner runner) {
+        List<ForkJoinTask<FileReport>> tasks = new ArrayList<>(inputFiles.length);
+
+        for (File inputFile : inputFiles) {
+            tasks.add(ForkJoinTask.adapt(() -> processFile(inputFile, runner)).fork());
+        }
+
+        List<FileReport> reports = new ArrayList<>(inputFiles.length);
+        for (ForkJoinTask<FileReport> task : tasks) {
+            reports.add(task.join());
+        }
+
+        return reports;
+    }
+
+    private FileReport processFile(File inputFile, SimulationRunner runner) {
+        String inputFileName = inputFile.getName();
+        String extension = options.isBinaryInput() ? BinaryTraceReader.FILE_EXTENSION : ".txt";
+        File outputFile = new File(outputDir, inputFileName.replace(extension, Application.OUTPUT_SUFFIX));
+        FileReport report = new FileReport(inputFileName);
+        long start = System.nanoTime();
+
+        try {
+            SystemConfiguration config;
+            List<PageSequence> sequences;
+
+            if (options.isBinaryInput()) {
+                try (BinaryTraceReader reader = new BinaryTraceReader(inputFile)) {
+                    config = reader.readConfiguration();
+                    sequences = reader.readSequences(config);
+                }
+            } else {
+                try (FileInputStream input = new FileInputStream(inputFile)) {
+                    TraceParser parser = options.isFastParser()
+                            ? new FastInputParser(input.getChannel())
+                            : new InputParser(new Scanner(input));
+
+                    config = parser.readConfiguration();
+                    sequences = parser.readSequences(config);
+                }
+            }
+
+            // Cada sequência é uma tarefa; a escrita consome os resultados em ordem
+            List<ForkJoinTask<SimulationResult[]>> tasks = new ArrayList<>(sequences.size());
+            for (PageSequence sequence : sequences) {
+                tasks.add(ForkJoinTask.adapt(() -> runner.run(config, sequence)).fork());
+            }
+
+            List<ForkJoinTask<MissRatioCurve[]>> curves = new ArrayList<>();
+            if (options.isMissRatioCurve()) {
+                for (PageSequence sequence : sequences) {
+                    curves.add(ForkJoinTask.adapt(
+                            () -> MissRatioReport.analyze(config, sequence, options, pool)).fork());
+                }
+            }
+
+            writeAtomically(outputFile, writer -> {
+                Application.writeConfiguration(writer, config);
+
+                for (int i = 0; i < sequences.size(); i++) {
+                    Application.writeSequence(writer, i, sequences.get(i), tasks.get(i).join(), options);
+                }
+            });
+
+            if (options.isMissRatioCurve()) {
+                writeAtomically(new File(outputDir, inputFileName.replace(extension, Application.CURVE_SUFFIX)),
+                        writer -> {
+                            for (int i = 0; i < curves.size(); i++) {
+                                MissRatioReport.writeSequence(writer, i, curves.get(i).join(),
+                                        config.getNumberOfFrames(), tasks.get(i).join());
+                            }
+                        });
+            }
+
+            if (options.isSharedMemory()) {
+                writeAtomically(new File(outputDir, inputFileName.replace(extension, Application.SHARED_SUFFIX)),
+                        writer -> SharedMemoryReport.writeReport(writer, config, sequences, options));
+            }
+
+            if (options.isEventLog() || options.getFaultRateWindow() > 0) {
+                String baseName = inputFileName.replace(extension, "");
+                writeEventsAtomically(
+                        options.isEventLog() ? new File(outputDir, baseName + Application.EVENTS_SUFFIX) : null,
+                        options.getFaultRateWindow() > 0
+                                ? new File(outputDir, baseName + Application.FAULT_RATE_SUFFIX)
+                                : null,
+                        config, sequences);
+            }
+
+            report.sequences = sequences.size();
+            for (PageSequence sequence : sequences) {
+                report.requests += sequence.size();
+            }
+        } catch (IOException e) {
+            report.error = "Erro de E/S (" + inputFileName + "): " + e.getMessage();
+        } catch (InvalidInputException e) {
+            report.error = "Erro na entrada (" + inputFileName + "): " + e.getMessage();
+        } catch (InvalidConfigurationException e) {
+            report.error = "Erro na configuração (" + inputFileName + "): " + e.getMessage();
+        } catch (SimulatorException e) {
+            report.error = "Erro no simulador (" + inputFileName + "): " + e.getMessage();
+        } catch (Exception e) {
+            // Uma falha inesperada não pode interromper os demais arquivos do lote
+            report.error = "Erro inesperado (" + inputFileName + "): " + e.getMessage();
+            e.printStackTrace();
+        }
+
+        report.elapsedNanos = System.nanoTime() - start;
+        return report;
+    }
+
+    /**
+     * Grava o conteúdo em um arquivo temporário de output/ e o renomeia para
+     * o destino apenas se a escrita terminar sem erros.
+     */
+    private void writeAtomically(File outputFile, Consumer<PrintWriter> content) throws IOException {
+        Path target = outputFile.toPath();
+        Path temp = tempFile(outputFile);
+
+        try {
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(temp))) {
+                content.accept(writer);
+
+                if (writer.checkError()) {
+                    throw new IOException("falha ao escrever " + temp.getFileName());
+                }
+            }
+
+            moveAtomically(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Como writeAtomically, para os relatórios de eventos (null omite um
+     * deles): ambos são gravados em temporários e renomeados ao final.
+     */
+    private void writeEventsAtomically(File logFile, File rateFile, SystemConfiguration config,
+            List<PageSequence> sequences) throws IOException {
+        Path logTemp = logFile == null ? null
+                : tempFile(logFile);
+        Path rateTemp = rateFile == null ? null
+                : tempFile(rateFile);
+
+        try {
+            EventReport.write(logTemp == null ? null : logTemp.toFile(),
+                    rateTemp == null ? null : rateTemp.toFile(), config, sequences, options);
+
+            if (logTemp != null) {
+                moveAtomically(logTemp, logFile.toPath());
+            }
+            if (rateTemp != null) {
+                moveAtomically(rateTemp, rateFile.toPath());
+            }
+        } finally {
+            if (logTemp != null) {
+                Files.deleteIfExists(logTemp);
+            }
+            if (rateTemp != null) {
+                Files.deleteIfExists(rateTemp);
+            }
+        }
+    }
+
+    // Temporário ao lado do destino, criado pela própria escrita com as
+    // permissões padrão (createTempFile o restringiria ao dono)
+    private Path tempFile(File outputFile) {
+        return new File(outputDir, outputFile.getName() + ".tmp").toPath();
+    }
+
+    private static void moveAtomically(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void printSummary(List<FileReport> reports, long elapsedNanos) {
+        long totalRequests = 0;
+        int processed = 0;
+
+        System.out.println("Resumo do lote (" + options.getJobs() + " tarefas paralelas):");
+
+        for (FileReport report : reports) {
+            if (report.error != null) {
+                System.err.println(report.error);
+                System.out.printf("  %-30s falhou (%.3f s)%n", report.fileName, report.elapsedNanos / 1e9);
+                continue;
+            }
+
+            processed++;
+            totalRequests += report.requests;
+            System.out.printf("  %-30s %d sequência(s), %d requisições, %.3f s%n",
+                    report.fileName, report.sequences, report.requests, report.elapsedNanos / 1e9);
+        }
+
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("Total: %d de %d arquivo(s), %d requisições em %.3f s (%.0f requisições/s)%n",
+                processed, reports.size(), totalRequests, seconds,
+                seconds > 0 ? totalRequests / seconds : 0.0);
+    }
+
+    private static final class FileReport {
+
+        private final String fileName;
+        private int sequences;
+        private long requests;
+        private long elapsedNanos;
+        private String error;
+
+        FileReport(String fileName) {
+            this.fileName = fileName;
+        }
+    }
+}
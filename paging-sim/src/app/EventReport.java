@@ -0,0 +1,105 @@
+package app;
+
+import event.BinaryEventLog;
+import event.FaultRateSeries;
+import model.PageSequence;
+import model.SystemConfiguration;
+import policy.AccessEventBuffer;
+import policy.AccessEventSink;
+import policy.PageReplacementPolicy;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Relatórios de eventos por requisição: o log binário (output/*_events.bin)
+ * e a série da taxa de page faults por janela (output/*_faultrate.txt).
+ * As políticas são simuladas novamente, uma a uma, com os sinks ligados, de
+ * modo que os tempos da saída principal não incluem o custo dos eventos.
+ * Com os dois relatórios, cada simulação alimenta ambos de uma só vez.
+ */
+final class EventReport {
+
+    private EventReport() {
+    }
+
+    /**
+     * @param logFile  destino do log binário, ou null
+     * @param rateFile destino da série de taxas, ou null
+     */
+    static void write(File logFile, File rateFile, SystemConfiguration config, List<PageSequence> sequences,
+            SimulatorOptions options) throws IOException {
+        try (FileChannel channel = logFile == null ? null
+                : FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                PrintWriter writer = rateFile == null ? null : new PrintWriter(rateFile)) {
+
+            BinaryEventLog log = channel == null ? null : new BinaryEventLog(channel);
+            FaultRateSeries series = writer == null ? null
+                    : new FaultRateSeries(writer, options.getFaultRateWindow());
+            AccessEventSink sink = log == null ? series : series == null ? log : new Tee(log, series);
+
+            if (writer != null) {
+                Application.writeConfiguration(writer, config);
+                writer.println(options.getFaultRateWindow());
+            }
+
+            for (int i = 0; i < sequences.size(); i++) {
+                if (log != null) {
+                    log.setSequenceIndex(i);
+                }
+
+                if (writer != null) {
+                    writer.println();
+                    writer.println(i + 1);
+                    writer.println();
+                }
+
+                for (PageReplacementPolicy policy : SimulationRunner.createPolicies(config, options)) {
+                    policy.setEventSink(sink);
+                    policy.simulate(sequences.get(i), config.getNumberOfFrames());
+                }
+            }
+
+            if (writer != null && writer.checkError()) {
+                throw new IOException("falha ao escrever " + rateFile.getName());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Repassa os mesmos lotes aos dois sinks
+    private static final class Tee implements AccessEventSink {
+
+        private final AccessEventSink first;
+        private final AccessEventSink second;
+
+        Tee(AccessEventSink first, AccessEventSink second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void begin(String policyName, int numberOfFrames) {
+            first.begin(policyName, numberOfFrames);
+            second.begin(policyName, numberOfFrames);
+        }
+
+        @Override
+        public void accept(AccessEventBuffer events) {
+            first.accept(events);
+            second.accept(events);
+        }
+
+        @Override
+        public void end() {
+            first.end();
+            second.end();
+        }
+    }
+}
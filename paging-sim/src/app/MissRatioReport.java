@@ -0,0 +1,137 @@
+package app;
+
+import analysis.MissRatioAnalyzer;
+import analysis.OPTStackAnalyzer;
+import analysis.ParallelStackDistanceAnalyzer;
+import analysis.ShardsAnalyzer;
+import analysis.StackDistanceAnalyzer;
+import model.MissRatioCurve;
+import model.PageSequence;
+import model.SimulationResult;
+import model.SystemConfiguration;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Relatório das curvas de page faults (output/*_mrc.txt). Para cada
+ * sequência traz as curvas do LRU e do MIN para todas as quantidades de
+ * frames, a distância do LRU ao ótimo em cada uma delas e, na quantidade de
+ * frames configurada, a distância de cada política simulada ao MIN.
+ */
+final class MissRatioReport {
+
+    private MissRatioReport() {
+    }
+
+    static void write(File curveFile, SystemConfiguration config, List<PageSequence> sequences,
+            List<SimulationResult[]> results, SimulatorOptions options, ForkJoinPool pool)
+            throws FileNotFoundException {
+        try (PrintWriter writer = new PrintWriter(curveFile)) {
+            for (int i = 0; i < sequences.size(); i++) {
+                writeSequence(writer, i, analyze(config, sequences.get(i), options, pool),
+                        config.getNumberOfFrames(), results.get(i));
+            }
+        }
+    }
+
+    /**
+     * Calcula as curvas do LRU e do MIN, nessa ordem. Com --shards a curva
+     * do LRU é aproximada por amostragem; senão é exata e, com um pool
+     * disponível, calculada em blocos paralelos.
+     */
+    static MissRatioCurve[] analyze(SystemConfiguration config, PageSequence sequence,
+            SimulatorOptions options, ForkJoinPool pool) {
+        int numberOfPages = config.getNumberOfPages();
+        MissRatioAnalyzer lru;
+
+        if (options.isSampledCurve()) {
+            lru = new ShardsAnalyzer(numberOfPages, options.getSampleRate(), options.getMaxSampledPages());
+        } else if (pool != null) {
+            lru = new ParallelStackDistanceAnalyzer(numberOfPages, pool);
+        } else {
+            lru = new StackDistanceAnalyzer(numberOfPages);
+        }
+
+        return new MissRatioCurve[] {
+                lru.analyze(sequence),
+                new OPTStackAnalyzer(numberOfPages).analyze(sequence)
+        };
+    }
+
+    static void writeSequence(PrintWriter writer, int sequenceIndex, MissRatioCurve[] curves,
+            int numberOfFrames, SimulationResult[] results) {
+        MissRatioCurve lru = curves[0];
+        MissRatioCurve min = curves[1];
+
+        if (sequenceIndex > 0) {
+            writer.println();
+        }
+
+        writer.println(sequenceIndex + 1);
+        writer.println();
+
+        writeCurve(writer, lru);
+        writeCurve(writer, min);
+
+        // Distância ao ótimo em cada quantidade de frames
+        writer.println(lru.getPolicyName() + "-" + min.getPolicyName());
+        for (int frames = 1; frames <= min.getMaxFrames(); frames++) {
+            writeLine(writer, frames, lru.getFaults(frames) - min.getFaults(frames),
+                    lru.getMissRatio(frames) - min.getMissRatio(frames));
+        }
+
+        // Distância de cada política simulada ao MIN nos frames configurados
+        int frames = Math.min(numberOfFrames, min.getMaxFrames());
+        long optimal = min.getFaults(frames);
+
+        writer.println("GAP " + numberOfFrames);
+        for (SimulationResult result : results) {
+            long extra = result.getPageFaults() - optimal;
+
+            writer.print(result.getPolicyName());
+            writer.print(' ');
+            writer.print(extra);
+            writer.print(' ');
+            writeRatio(writer, (double) extra / min.getNumberOfRequests());
+            writer.println();
+        }
+    }
+
+    private static void writeCurve(PrintWriter writer, MissRatioCurve curve) {
+        writer.println(curve.getPolicyName());
+
+        for (int frames = 1; frames <= curve.getMaxFrames(); frames++) {
+            writeLine(writer, frames, curve.getFaults(frames), curve.getMissRatio(frames));
+        }
+    }
+
+    // Uma linha "frames faults taxa": evita String.format no laço
+    private static void writeLine(PrintWriter writer, int frames, long faults, double ratio) {
+        writer.print(frames);
+        writer.print(' ');
+        writer.print(faults);
+        writer.print(' ');
+        writeRatio(writer, ratio);
+        writer.println();
+    }
+
+    // Taxa com 6 casas decimais
+    private static void writeRatio(PrintWriter writer, double ratio) {
+        long micros = Math.round(ratio * 1_000_000);
+
+        if (micros < 0) {
+            writer.print('-');
+            micros = -micros;
+        }
+
+        String fraction = Long.toString(micros % 1_000_000);
+
+        writer.print(micros / 1_000_000);
+        writer.print('.');
+        writer.write("000000", 0, 6 - fraction.length());
+        writer.print(fraction);
+    }
+}
@@ -0,0 +1,34 @@
+package app;
+
+import exception.InvalidInputException;
+
+/**
+ * Escalonamento dos processos no modo de memória compartilhada: define
+ * quantas requisições cada processo emite por vez na rodada.
+ */
+public enum SchedulingPolicy {
+
+    ROUND_ROBIN("rr"), // Uma requisição por processo
+    WEIGHTED("weighted"), // weights[i] requisições para o processo i
+    TIME_SLICED("slice"); // Fatias de --quantum requisições
+
+    private final String optionName;
+
+    SchedulingPolicy(String optionName) {
+        this.optionName = optionName;
+    }
+
+    public String getOptionName() {
+        return optionName;
+    }
+
+    static SchedulingPolicy fromOption(String name, String value) {
+        for (SchedulingPolicy policy : values()) {
+            if (policy.optionName.equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+
+        throw new InvalidInputException(name, value, "escalonamento desconhecido (rr, weighted ou slice)");
+    }
+}
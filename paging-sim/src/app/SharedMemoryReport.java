@@ -0,0 +1,411 @@
+package app;
+
+import exception.InvalidConfigurationException;
+import model.PageSequence;
+import model.SimulationMetrics;
+import model.SimulationResult;
+import model.SystemConfiguration;
+import policy.OPTPolicy;
+import policy.PageReplacementPolicy;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Relatório do modo de memória compartilhada (output/*_shared.txt): cada
+ * sequência do arquivo é um processo e todos disputam os frames da
+ * configuração.
+ * As páginas de cada processo são renumeradas de forma densa e recebem um
+ * intervalo próprio de identificadores globais, de modo que todos os espaços
+ * de endereçamento cabem em uma única tabela primitiva e qualquer política
+ * simula o conjunto sem objetos por processo.
+ * Na substituição global as requisições são intercaladas pelo escalonador e
+ * uma única instância da política atende todos os processos. Na local cada
+ * processo tem uma cota fixa de frames (proporcional ao peso) e só substitui
+ * as próprias páginas; como os processos não interferem entre si, cada um é
+ * simulado em sequência sobre a mesma instância, e a ordem de escalonamento
+ * não altera o resultado.
+ */
+final class SharedMemoryReport {
+
+    private SharedMemoryReport() {
+    }
+
+    static void write(File sharedFile, SystemConfiguration config, List<PageSequence> sequences,
+            SimulatorOptions options) throws FileNotFoundException {
+        // Falha antes de criar o arquivo de saída
+        if (options.isLocalReplacement()) {
+            requireFramePerProcess(config.getNumberOfFrames(), sequences.size());
+        }
+
+        try (PrintWriter writer = new PrintWriter(sharedFile)) {
+            writeReport(writer, config, sequences, options);
+        }
+    }
+
+    static void writeReport(PrintWriter writer, SystemConfiguration config, List<PageSequence> sequences,
+            SimulatorOptions options) {
+        AddressSpaces spaces = AddressSpaces.of(sequences, config.getNumberOfPages());
+
+        Application.writeConfiguration(writer, config);
+        writer.println(options.isLocalReplacement() ? "LOCAL" : "GLOBAL");
+        writeScheduling(writer, spaces.processCount(), options);
+        writer.println(spaces.processCount() + " " + spaces.requestCount() + " " + spaces.pageCount());
+
+        if (options.isLocalReplacement()) {
+            int[] quotas = quotas(config.getNumberOfFrames(), spaces.processCount(), options);
+            PageReplacementPolicy[] policies = SimulationRunner.createPolicies(spaces.maxProcessPages(), options);
+
+            for (PageReplacementPolicy policy : policies) {
+                writer.println();
+                simulateLocal(writer, policy, spaces, quotas, options);
+            }
+        } else {
+            int[] stream = interleave(spaces, options);
+            PageReplacementPolicy[] policies = SimulationRunner.createPolicies(spaces.pageCount(), options);
+
+            for (PageReplacementPolicy policy : policies) {
+                writer.println();
+                simulateGlobal(writer, policy, spaces, stream, config.getNumberOfFrames(), options);
+            }
+        }
+    }
+
+    private static void writeScheduling(PrintWriter writer, int processCount, SimulatorOptions options) {
+        SchedulingPolicy scheduling = options.getScheduling();
+        writer.print(scheduling.getOptionName());
+
+        if (scheduling == SchedulingPolicy.TIME_SLICED) {
+            writer.print(" " + options.getQuantum());
+        } else if (scheduling == SchedulingPolicy.WEIGHTED) {
+            for (int process = 0; process < processCount; process++) {
+                writer.print(process == 0 ? " " : ",");
+                writer.print(options.getWeight(process));
+            }
+        }
+
+        writer.println();
+    }
+
+    private static void simulateGlobal(PrintWriter writer, PageReplacementPolicy policy, AddressSpaces spaces,
+            int[] stream, int numberOfFrames, SimulatorOptions options) {
+        int[] faults = new int[spaces.processCount()];
+
+        // O MIN recebe a sequência intercalada já em begin(), para que access()
+        // informe o resultado de cada requisição em vez de PENDING
+        if (policy instanceof OPTPolicy) {
+            ((OPTPolicy) policy).begin(IntBuffer.wrap(stream), numberOfFrames);
+        } else {
+            policy.begin(numberOfFrames);
+        }
+
+        for (int page : stream) {
+            if (policy.access(page) != PageReplacementPolicy.HIT) {
+                faults[spaces.processOf(page)]++;
+            }
+        }
+        SimulationResult result = policy.finish();
+
+        writer.println(result.getPolicyName());
+        writer.println(result.getExecutionTimeSeconds());
+        writer.println(result.getPageFaults());
+        writeFaults(writer, faults);
+
+        if (options.isMetrics()) {
+            Application.writeMetrics(writer, result.getMetrics());
+        }
+    }
+
+    private static void simulateLocal(PrintWriter writer, PageReplacementPolicy policy, AddressSpaces spaces,
+            int[] quotas, SimulatorOptions options) {
+        int[] faults = new int[spaces.processCount()];
+        SimulationMetrics[] metrics = new SimulationMetrics[faults.length];
+        long totalFaults = 0;
+
+        for (int process = 0; process < faults.length; process++) {
+            SimulationResult result = policy.simulate(spaces.requestsOf(process), quotas[process]);
+            faults[process] = result.getPageFaults();
+            totalFaults += faults[process];
+            metrics[process] = result.getMetrics();
+        }
+
+        SimulationMetrics total = combine(metrics);
+
+        writer.println(policy.getPolicyName());
+        writer.println(Math.round(total.getElapsedNanos() / 1_000_000_000.0));
+        writer.println(totalFaults);
+        writeFaults(writer, faults);
+
+        if (options.isMetrics()) {
+            Application.writeMetrics(writer, total);
+        }
+    }
+
+    /**
+     * Métricas da substituição local, somadas entre as partições: como os
+     * frames de cada processo são disjuntos, o conjunto residente do sistema é
+     * a soma dos conjuntos de cada processo (o pico somado é um limite
+     * superior, pois os picos podem não coincidir).
+     */
+    private static SimulationMetrics combine(SimulationMetrics[] metrics) {
+        long elapsedNanos = 0;
+        long hits = 0;
+        long misses = 0;
+        long evictions = 0;
+        long allocatedBytes = 0;
+        double averageResidentPages = 0.0;
+        int peakResidentPages = 0;
+        long writeBacks = 0;
+
+        for (SimulationMetrics process : metrics) {
+            elapsedNanos += process.getElapsedNanos();
+            hits += process.getHits();
+            misses += process.getMisses();
+            evictions += process.getEvictions();
+            averageResidentPages += process.getAverageResidentPages();
+            peakResidentPages += process.getPeakResidentPages();
+
+            allocatedBytes = allocatedBytes == SimulationMetrics.UNSUPPORTED
+                    || process.getAllocatedBytes() == SimulationMetrics.UNSUPPORTED
+                    ? SimulationMetrics.UNSUPPORTED
+                    : allocatedBytes + process.getAllocatedBytes();
+            writeBacks = writeBacks == SimulationMetrics.UNSUPPORTED
+                    || process.getWriteBacks() == SimulationMetrics.UNSUPPORTED
+                    ? SimulationMetrics.UNSUPPORTED
+                    : writeBacks + process.getWriteBacks();
+        }
+
+        return new SimulationMetrics(elapsedNanos, hits, misses, evictions, allocatedBytes,
+                averageResidentPages, peakResidentPages, writeBacks);
+    }
+
+    private static void writeFaults(PrintWriter writer, int[] faults) {
+        for (int process = 0; process < faults.length; process++) {
+            if (process > 0) {
+                writer.print(' ');
+            }
+            writer.print(faults[process]);
+        }
+        writer.println();
+    }
+
+    /**
+     * Cotas da substituição local: cada processo recebe um frame e os demais
+     * são divididos na proporção dos pesos; as sobras do arredondamento vão
+     * para os maiores restos (empate: menor processo), de modo que as cotas
+     * somam exatamente a quantidade de frames.
+     */
+    static int[] quotas(int numberOfFrames, int processCount, SimulatorOptions options) {
+        requireFramePerProcess(numberOfFrames, processCount);
+
+        long totalWeight = 0;
+        for (int process = 0; process < processCount; process++) {
+            totalWeight += options.getWeight(process);
+        }
+
+        int spare = numberOfFrames - processCount;
+        int[] quotas = new int[processCount];
+        long[] remainders = new long[processCount];
+        int assigned = 0;
+
+        for (int process = 0; process < processCount; process++) {
+            long share = spare * (long) options.getWeight(process);
+            quotas[process] = 1 + (int) (share / totalWeight);
+            remainders[process] = share % totalWeight;
+            assigned += quotas[process];
+        }
+
+        Integer[] order = new Integer[processCount];
+        for (int process = 0; process < processCount; process++) {
+            order[process] = process;
+        }
+        Arrays.sort(order, (a, b) -> remainders[a] != remainders[b]
+                ? Long.compare(remainders[b], remainders[a])
+                : Integer.compare(a, b));
+
+        for (int i = 0; assigned < numberOfFrames; i++) {
+            quotas[order[i]]++;
+            assigned++;
+        }
+
+        return quotas;
+    }
+
+    private static void requireFramePerProcess(int numberOfFrames, int processCount) {
+        if (processCount > numberOfFrames) {
+            throw new InvalidConfigurationException("Substituição local requer ao menos um frame por processo ("
+                    + processCount + " processos, " + numberOfFrames + " frames)");
+        }
+    }
+
+    /**
+     * Intercala as requisições dos processos em rodadas: em cada uma, os
+     * processos ainda ativos emitem, na ordem, a sua rajada de requisições.
+     */
+    static int[] interleave(AddressSpaces spaces, SimulatorOptions options) {
+        int processCount = spaces.processCount();
+        int[] stream = new int[spaces.requestCount()];
+        int[] position = new int[processCount]; // Próxima requisição de cada processo
+        int[] active = new int[processCount];
+        int activeCount = 0;
+
+        for (int process = 0; process < processCount; process++) {
+            if (spaces.requestCount(process) > 0) {
+                active[activeCount++] = process;
+            }
+        }
+
+        int length = 0;
+        while (activeCount > 0) {
+            int survivors = 0;
+
+            for (int i = 0; i < activeCount; i++) {
+                int process = active[i];
+                int remaining = spaces.requestCount(process) - position[process];
+                int burst = Math.min(remaining, burst(process, options));
+
+                length = spaces.copyGlobal(process, position[process], burst, stream, length);
+                position[process] += burst;
+
+                if (burst < remaining) {
+                    active[survivors++] = process;
+                }
+            }
+
+            activeCount = survivors;
+        }
+
+        return stream;
+    }
+
+    private static int burst(int process, SimulatorOptions options) {
+        switch (options.getScheduling()) {
+            case WEIGHTED:
+                return options.getWeight(process);
+            case TIME_SLICED:
+                return options.getQuantum();
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Espaços de endereçamento renumerados: as requisições de todos os
+     * processos ficam concatenadas com identificadores densos por processo
+     * (0..páginas distintas - 1), e o identificador global de uma página é o
+     * deslocamento do processo somado ao identificador local.
+     */
+    static final class AddressSpaces {
+
+        private static final int ABSENT = -1;
+
+        private final int[] requests; // Identificadores locais, processo após processo
+        private final int[] start; // Requisições do processo p: [start[p], start[p + 1])
+        private final int[] offset; // Páginas globais do processo p: [offset[p], offset[p + 1])
+        private final int[] processOf; // processOf[página global] = processo
+        private final int maxProcessPages;
+
+        private AddressSpaces(int[] requests, int[] start, int[] offset, int maxProcessPages) {
+            this.requests = requests;
+            this.start = start;
+            this.offset = offset;
+            this.maxProcessPages = maxProcessPages;
+            this.processOf = new int[offset[offset.length - 1]];
+
+            for (int process = 0; process + 1 < offset.length; process++) {
+                Arrays.fill(processOf, offset[process], offset[process + 1], process);
+            }
+        }
+
+        static AddressSpaces of(List<PageSequence> sequences, int numberOfPages) {
+            int processCount = sequences.size();
+            long total = 0;
+            for (PageSequence sequence : sequences) {
+                total += sequence.size();
+            }
+
+            if (total > Integer.MAX_VALUE) {
+                throw new InvalidConfigurationException(
+                        "Requisições demais para o modo de memória compartilhada: " + total);
+            }
+
+            int[] requests = new int[(int) total];
+            int[] start = new int[processCount + 1];
+            int[] offset = new int[processCount + 1];
+            int[] owner = new int[numberOfPages]; // Último processo que usou a página
+            int[] localId = new int[numberOfPages];
+            int maxProcessPages = 0;
+            int length = 0;
+
+            Arrays.fill(owner, ABSENT);
+
+            for (int process = 0; process < processCount; process++) {
+                IntBuffer sequence = sequences.get(process).asIntBuffer();
+                int distinct = 0;
+
+                for (int i = sequence.position(); i < sequence.limit(); i++) {
+                    int page = sequence.get(i);
+
+                    if (owner[page] != process) {
+                        owner[page] = process;
+                        localId[page] = distinct++;
+                    }
+
+                    requests[length++] = localId[page];
+                }
+
+                start[process + 1] = length;
+                offset[process + 1] = offset[process] + distinct;
+                maxProcessPages = Math.max(maxProcessPages, distinct);
+            }
+
+            return new AddressSpaces(requests, start, offset, maxProcessPages);
+        }
+
+        int processCount() {
+            return start.length - 1;
+        }
+
+        int requestCount() {
+            return requests.length;
+        }
+
+        int requestCount(int process) {
+            return start[process + 1] - start[process];
+        }
+
+        /**
+         * Total de páginas globais (distintas em cada processo, somadas).
+         */
+        int pageCount() {
+            return offset[offset.length - 1];
+        }
+
+        int maxProcessPages() {
+            return maxProcessPages;
+        }
+
+        IntBuffer requestsOf(int process) {
+            return IntBuffer.wrap(requests, start[process], requestCount(process));
+        }
+
+        int processOf(int globalPage) {
+            return processOf[globalPage];
+        }
+
+        // Copia 'count' requisições do processo como identificadores globais
+        int copyGlobal(int process, int from, int count, int[] target, int length) {
+            int base = offset[process];
+            int first = start[process] + from;
+
+            for (int i = 0; i < count; i++) {
+                target[length++] = base + requests[first + i];
+            }
+
+            return length;
+        }
+    }
+}
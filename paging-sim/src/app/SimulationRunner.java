@@ -0,0 +1,201 @@
+package app;
+
+import model.PageSequence;
+import model.SimulationResult;
+import model.SystemConfiguration;
+import exception.InvalidInputException;
+import policy.ARCPolicy;
+import policy.ClockPolicy;
+import policy.EnhancedClockPolicy;
+import policy.FIFOPolicy;
+import policy.LFUPolicy;
+import policy.LRUPolicy;
+import policy.OPTPolicy;
+import policy.PFFPolicy;
+import policy.PageReplacementPolicy;
+import policy.RANDPolicy;
+import policy.WTinyLFUPolicy;
+import policy.WindowedOPTPolicy;
+import policy.WorkingSetPolicy;
+import translation.AddressTranslator;
+import translation.PageTableWalker;
+import translation.TLB;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Executa as políticas de substituição sobre uma sequência.
+ * No modo paralelo cada política é uma tarefa de um ForkJoinPool limitado,
+ * todas lendo a mesma PageSequence (somente leitura). Os resultados são
+ * sempre devolvidos na ordem de --policies (por padrão FIFO, RAND, LRU, MIN).
+ * O pool pode ser compartilhado com o BatchRunner: dentro dele as tarefas
+ * são bifurcadas (fork) no próprio pool, sem bloquear os workers.
+ */
+public class SimulationRunner implements AutoCloseable {
+
+    /**
+     * Políticas disponíveis para --policies.
+     */
+    public static final List<String> POLICY_NAMES = List.of("FIFO", "RAND", "LRU", "MIN",
+            "CLOCK", "ECLOCK", "ARC", "LFU", "WTINYLFU", "WS", "PFF");
+
+    /**
+     * Políticas simuladas quando --policies não é informado.
+     */
+    public static final List<String> DEFAULT_POLICIES = List.of("FIFO", "RAND", "LRU", "MIN");
+
+    private final SimulatorOptions options;
+    private final ForkJoinPool pool; // null no modo sequencial
+    private final boolean ownsPool;
+
+    public SimulationRunner(SimulatorOptions options) {
+        this.options = options;
+        this.pool = options.isParallel()
+                ? new ForkJoinPool(Math.min(options.getPolicies().size(), Runtime.getRuntime().availableProcessors()))
+                : null;
+        this.ownsPool = true;
+    }
+
+    /**
+     * @param pool pool compartilhado, usado apenas com --parallel e não
+     *             encerrado por close()
+     */
+    public SimulationRunner(SimulatorOptions options, ForkJoinPool pool) {
+        this.options = options;
+        this.pool = options.isParallel() ? pool : null;
+        this.ownsPool = false;
+    }
+
+    /**
+     * Simula a sequência com todas as políticas e devolve os resultados na
+     * ordem de saída.
+     */
+    public SimulationResult[] run(SystemConfiguration config, PageSequence sequence) {
+        PageReplacementPolicy[] policies = createPolicies(config, options);
+        AddressTranslator[] translators = new AddressTranslator[policies.length];
+        SimulationResult[] results = new SimulationResult[policies.length];
+        int numberOfFrames = config.getNumberOfFrames();
+
+        for (int i = 0; i < policies.length; i++) {
+            translators[i] = attachTranslator(policies[i], config, options);
+        }
+
+        if (pool == null) {
+            for (int i = 0; i < policies.length; i++) {
+                results[i] = withTranslation(policies[i].simulate(sequence, numberOfFrames), translators[i]);
+            }
+            return results;
+        }
+
+        List<ForkJoinTask<SimulationResult>> tasks = new ArrayList<>(Collections.nCopies(policies.length, null));
+
+        // Submete do fim para o início: o MIN, mais caro, começa primeiro e
+        // seu custo fica sobreposto ao das demais políticas
+        for (int i = policies.length - 1; i >= 0; i--) {
+            PageReplacementPolicy policy = policies[i];
+            ForkJoinTask<SimulationResult> task = ForkJoinTask.adapt(
+                    () -> policy.simulate(sequence, numberOfFrames));
+            tasks.set(i, ForkJoinTask.getPool() == pool ? task.fork() : pool.submit(task));
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            results[i] = withTranslation(tasks.get(i).join(), translators[i]);
+        }
+
+        return results;
+    }
+
+    /**
+     * Pool usado no modo paralelo; null no modo sequencial.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Cria as políticas na ordem de saída definida por --policies.
+     */
+    static PageReplacementPolicy[] createPolicies(SystemConfiguration config, SimulatorOptions options) {
+        return createPolicies(config.getNumberOfPages(), options);
+    }
+
+    /**
+     * @param numberOfPages tamanho das tabelas por página das políticas
+     */
+    static PageReplacementPolicy[] createPolicies(int numberOfPages, SimulatorOptions options) {
+        List<String> names = options.getPolicies();
+        PageReplacementPolicy[] policies = new PageReplacementPolicy[names.size()];
+
+        for (int i = 0; i < policies.length; i++) {
+            policies[i] = createPolicy(names.get(i), numberOfPages, options);
+        }
+
+        return policies;
+    }
+
+    /**
+     * Com --tlb, liga à política a tradução de endereços (TLB e percurso na
+     * tabela de páginas da arquitetura); sem --tlb, devolve null.
+     */
+    static AddressTranslator attachTranslator(PageReplacementPolicy policy, SystemConfiguration config,
+            SimulatorOptions options) {
+        if (!options.isTlb()) {
+            return null;
+        }
+
+        TLB tlb = new TLB(options.getTlbEntries(), options.getTlbWays(), options.getTlbReplacement(),
+                options.getSeed());
+        AddressTranslator translator = new AddressTranslator(tlb,
+                PageTableWalker.of(config, options.getWalkCycles()), config);
+        policy.setEventSink(translator);
+
+        return translator;
+    }
+
+    static SimulationResult withTranslation(SimulationResult result, AddressTranslator translator) {
+        return translator == null ? result : result.withTranslation(translator.getMetrics());
+    }
+
+    private static PageReplacementPolicy createPolicy(String name, int numberOfPages, SimulatorOptions options) {
+        switch (name) {
+            case "FIFO":
+                return new FIFOPolicy(numberOfPages);
+            case "RAND":
+                return new RANDPolicy(numberOfPages, options.getSeed());
+            case "LRU":
+                return new LRUPolicy(numberOfPages);
+            case "MIN":
+                // No modo incremental o MIN não conhece a sequência inteira: usa janela
+                return options.isStreaming()
+                        ? new WindowedOPTPolicy(numberOfPages, options.getLookahead())
+                        : new OPTPolicy(numberOfPages);
+            case "CLOCK":
+                return new ClockPolicy(numberOfPages);
+            case "ECLOCK":
+                return new EnhancedClockPolicy(numberOfPages, options.getWriteRatio(), options.getSeed());
+            case "ARC":
+                return new ARCPolicy(numberOfPages);
+            case "LFU":
+                return new LFUPolicy(numberOfPages, options.getAgingInterval());
+            case "WTINYLFU":
+                return new WTinyLFUPolicy(numberOfPages);
+            case "WS":
+                return new WorkingSetPolicy(numberOfPages, options.getWorkingSetWindow(),
+                        options.isFrameLimited());
+            case "PFF":
+                return new PFFPolicy(numberOfPages, options.getFaultThreshold(), options.isFrameLimited());
+            default:
+                throw new InvalidInputException("--policies", name, "política desconhecida");
+        }
+    }
+
+    @Override
+    public void close() {
+        if (pool != null && ownsPool) {
+            pool.shutdown();
+        }
+    }
+}
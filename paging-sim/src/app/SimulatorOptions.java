@@ -0,0 +1,623 @@
+package app;
+
+import analysis.ShardsAnalyzer;
+import exception.InvalidInputException;
+import policy.EnhancedClockPolicy;
+import policy.PFFPolicy;
+import policy.WorkingSetPolicy;
+import translation.TLBReplacement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Opções de linha de comando do simulador.
+ * Formato: --opcao=valor ou --opcao valor. Sem argumentos, mantém o
+ * comportamento padrão (entrada em input/, saída em output/).
+ */
+public class SimulatorOptions {
+
+    public static final long DEFAULT_SEED = 42L;
+    public static final int DEFAULT_LOOKAHEAD = 1 << 20;
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+    public static final int DEFAULT_QUANTUM = 100;
+    public static final int DEFAULT_TLB_ENTRIES = 64;
+    public static final int DEFAULT_TLB_WAYS = 4;
+    public static final int DEFAULT_WALK_CYCLES = 100;
+
+    private long seed = DEFAULT_SEED;
+    private boolean streaming;
+    private boolean binaryInput;
+    private boolean convertOnly;
+    private boolean fastParser;
+    private boolean parallel;
+    private int jobs;
+    private boolean metrics;
+    private boolean missRatioCurve;
+    private boolean sampledCurve;
+    private double sampleRate = ShardsAnalyzer.DEFAULT_RATE;
+    private int maxSampledPages = ShardsAnalyzer.DEFAULT_MAX_TRACKED_PAGES;
+    private int lookahead = DEFAULT_LOOKAHEAD;
+    private List<String> policies = SimulationRunner.DEFAULT_POLICIES;
+    private double writeRatio = EnhancedClockPolicy.DEFAULT_WRITE_RATIO;
+    private int agingInterval;
+    private int workingSetWindow = WorkingSetPolicy.DEFAULT_WINDOW;
+    private int faultThreshold = PFFPolicy.DEFAULT_THRESHOLD;
+    private boolean frameLimited;
+    private boolean sharedMemory;
+    private boolean localReplacement;
+    private SchedulingPolicy scheduling = SchedulingPolicy.ROUND_ROBIN;
+    private int quantum = DEFAULT_QUANTUM;
+    private int[] weights = { 1 };
+    private boolean eventLog;
+    private int faultRateWindow;
+    private boolean tlb;
+    private int tlbEntries = DEFAULT_TLB_ENTRIES;
+    private int tlbWays = DEFAULT_TLB_WAYS;
+    private TLBReplacement tlbReplacement = TLBReplacement.LRU;
+    private int walkCycles = DEFAULT_WALK_CYCLES;
+
+    private SimulatorOptions() {
+    }
+
+    public static SimulatorOptions parse(String[] args) {
+        SimulatorOptions options = new SimulatorOptions();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            String name = arg;
+            String value = null;
+
+            int equals = arg.indexOf('=');
+            if (equals >= 0) {
+                name = arg.substring(0, equals);
+                value = arg.substring(equals + 1);
+            }
+
+            switch (name) {
+                case "--seed":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.seed = parseLong(name, value);
+                    break;
+                case "--stream":
+                    options.streaming = true;
+                    break;
+                case "--binary":
+                    options.binaryInput = true;
+                    break;
+                case "--convert":
+                    options.convertOnly = true;
+                    break;
+                case "--fast-parser":
+                    options.fastParser = true;
+                    break;
+                case "--parallel":
+                    options.parallel = true;
+                    break;
+                case "--metrics":
+                    options.metrics = true;
+                    break;
+                case "--mrc":
+                    options.missRatioCurve = true;
+                    break;
+                case "--shards":
+                    options.missRatioCurve = true;
+                    options.sampledCurve = true;
+                    break;
+                case "--shards-rate":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.missRatioCurve = true;
+                    options.sampledCurve = true;
+                    options.sampleRate = parseDouble(name, value);
+                    if (!(options.sampleRate > 0.0 && options.sampleRate <= 1.0)) {
+                        throw new InvalidInputException(name, value, "deve estar em (0, 1]");
+                    }
+                    break;
+                case "--shards-max":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.missRatioCurve = true;
+                    options.sampledCurve = true;
+                    options.maxSampledPages = parseInt(name, value);
+                    if (options.maxSampledPages <= 0) {
+                        throw new InvalidInputException(name, value, "deve ser positivo");
+                    }
+                    break;
+                case "--jobs":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.jobs = parseInt(name, value);
+                    if (options.jobs <= 0) {
+                        throw new InvalidInputException(name, value, "deve ser positivo");
+                    }
+                    break;
+                case "--policies":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.policies = parsePolicies(name, value);
+                    break;
+                case "--write-ratio":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.writeRatio = parseDouble(name, value);
+                    if (!(options.writeRatio >= 0.0 && options.writeRatio <= 1.0)) {
+                        throw new InvalidInputException(name, value, "deve estar em [0, 1]");
+                    }
+                    break;
+                case "--lfu-aging":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.agingInterval = parseInt(name, value);
+                    if (options.agingInterval < 0) {
+                        throw new InvalidInputException(name, value, "não pode ser negativo");
+                    }
+                    break;
+                case "--ws-window":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.workingSetWindow = parseInt(name, value);
+                    if (options.workingSetWindow <= 0) {
+                        throw new InvalidInputException(name, value, "deve ser positivo");
+                    }
+                    break;
+                case "--pff-threshold":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.faultThreshold = parseInt(name, value);
+                    if (options.faultThreshold <= 0) {
+                        throw new InvalidInputException(name, value, "deve ser positivo");
+                    }
+                    break;
+                case "--frame-limit":
+                    options.frameLimited = true;
+                    break;
+                case "--shared":
+                    options.sharedMemory = true;
+                    break;
+                case "--replacement":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.sharedMemory = true;
+                    if (value.equalsIgnoreCase("local")) {
+                        options.localReplacement = true;
+                    } else if (value.equalsIgnoreCase("global")) {
+                        options.localReplacement = false;
+                    } else {
+                        throw new InvalidInputException(name, value, "deve ser global ou local");
+                    }
+                    break;
+                case "--scheduler":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.sharedMemory = true;
+                    options.scheduling = SchedulingPolicy.fromOption(name, value);
+                    break;
+                case "--quantum":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.sharedMemory = true;
+                    options.quantum = parseInt(name, value);
+                    if (options.quantum <= 0) {
+                        throw new InvalidInputException(name, value, "deve ser positivo");
+                    }
+                    break;
+                case "--weights":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.sharedMemory = true;
+                    options.scheduling = SchedulingPolicy.WEIGHTED;
+                    options.weights = parseWeights(name, value);
+                    break;
+                case "--event-log":
+                    options.eventLog = true;
+                    break;
+                case "--fault-rate":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.faultRateWindow = parseInt(name, value);
+                    if (options.faultRateWindow <= 0) {
+                        throw new InvalidInputException(name, value, "deve ser positivo");
+                    }
+                    break;
+                case "--tlb":
+                    options.tlb = true;
+                    break;
+                case "--tlb-entries":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.tlb = true;
+                    options.tlbEntries = parseInt(name, value);
+                    if (options.tlbEntries <= 0) {
+                        throw new InvalidInputException(name, value, "deve ser positivo");
+                    }
+                    break;
+                case "--tlb-ways":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.tlb = true;
+                    options.tlbWays = parseInt(name, value);
+                    if (options.tlbWays <= 0) {
+                        throw new InvalidInputException(name, value, "deve ser positivo");
+                    }
+                    break;
+                case "--tlb-policy":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.tlb = true;
+                    options.tlbReplacement = TLBReplacement.fromOption(name, value);
+                    break;
+                case "--walk-cycles":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.tlb = true;
+                    options.walkCycles = parseInt(name, value);
+                    if (options.walkCycles < 0) {
+                        throw new InvalidInputException(name, value, "não pode ser negativo");
+                    }
+                    break;
+                case "--lookahead":
+                    if (value == null) {
+                        value = requireValue(args, ++i, name);
+                    }
+                    options.lookahead = parseInt(name, value);
+                    if (options.lookahead < 0 || options.lookahead == Integer.MAX_VALUE) {
+                        throw new InvalidInputException(name, value,
+                                "deve estar entre 0 e " + (Integer.MAX_VALUE - 1));
+                    }
+                    break;
+                default:
+                    throw new InvalidInputException("Opção", arg, "opção desconhecida");
+            }
+        }
+
+        if (options.binaryInput && options.convertOnly) {
+            throw new InvalidInputException("Opção", "--binary --convert", "opções mutuamente exclusivas");
+        }
+
+        // A entrada binária já é mapeada sem parsing: não há leitura em blocos
+        if (options.binaryInput && options.streaming) {
+            throw new InvalidInputException("Opção", "--binary --stream", "opções mutuamente exclusivas");
+        }
+
+        if (options.jobs > 0 && (options.streaming || options.convertOnly)) {
+            throw new InvalidInputException("Opção", "--jobs",
+                    "não pode ser combinada com --stream ou --convert");
+        }
+
+        if (options.missRatioCurve && (options.streaming || options.convertOnly)) {
+            throw new InvalidInputException("Opção", options.sampledCurve ? "--shards" : "--mrc",
+                    "não pode ser combinada com --stream ou --convert");
+        }
+
+        if (options.sharedMemory && (options.streaming || options.convertOnly)) {
+            throw new InvalidInputException("Opção", "--shared",
+                    "não pode ser combinada com --stream ou --convert");
+        }
+
+        if (options.tlbEntries % options.tlbWays != 0) {
+            throw new InvalidInputException("--tlb-entries", String.valueOf(options.tlbEntries),
+                    "deve ser múltiplo de --tlb-ways (" + options.tlbWays + ")");
+        }
+
+        if ((options.eventLog || options.faultRateWindow > 0) && (options.streaming || options.convertOnly)) {
+            throw new InvalidInputException("Opção", options.eventLog ? "--event-log" : "--fault-rate",
+                    "não pode ser combinada com --stream ou --convert");
+        }
+
+        return options;
+    }
+
+    private static String requireValue(String[] args, int index, String name) {
+        if (index >= args.length) {
+            throw new InvalidInputException(name, null, "requer um valor");
+        }
+
+        return args[index];
+    }
+
+    // Lista separada por vírgulas, sem repetições, na ordem da saída
+    private static List<String> parsePolicies(String name, String value) {
+        List<String> policies = new ArrayList<>();
+
+        for (String policy : value.split(",")) {
+            String policyName = policy.trim().toUpperCase(Locale.ROOT);
+
+            if (!SimulationRunner.POLICY_NAMES.contains(policyName)) {
+                throw new InvalidInputException(name, policy,
+                        "política desconhecida (disponíveis: " + String.join(", ", SimulationRunner.POLICY_NAMES) + ")");
+            }
+
+            if (policies.contains(policyName)) {
+                throw new InvalidInputException(name, policy, "política repetida");
+            }
+
+            policies.add(policyName);
+        }
+
+        return Collections.unmodifiableList(policies);
+    }
+
+    private static int[] parseWeights(String name, String value) {
+        String[] parts = value.split(",");
+        int[] weights = new int[parts.length];
+
+        for (int i = 0; i < parts.length; i++) {
+            weights[i] = parseInt(name, parts[i].trim());
+            if (weights[i] <= 0) {
+                throw new InvalidInputException(name, value, "os pesos devem ser positivos");
+            }
+        }
+
+        return weights;
+    }
+
+    private static long parseLong(String name, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(name, value, "deve ser um número inteiro");
+        }
+    }
+
+    private static double parseDouble(String name, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(name, value, "deve ser um número");
+        }
+    }
+
+    private static int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(name, value, "deve ser um número inteiro");
+        }
+    }
+
+    /**
+     * Semente do gerador da política RAND; a mesma semente é usada em cada
+     * sequência para que as saídas sejam reproduzíveis.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Modo incremental: as sequências são lidas em blocos e simuladas com
+     * memória constante em relação ao tamanho do trace.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Políticas simuladas, na ordem em que aparecem na saída.
+     */
+    public List<String> getPolicies() {
+        return policies;
+    }
+
+    /**
+     * Fração das requisições tratadas como escrita pelo ECLOCK.
+     */
+    public double getWriteRatio() {
+        return writeRatio;
+    }
+
+    /**
+     * Requisições entre dois envelhecimentos das frequências do LFU; 0
+     * desativa o envelhecimento.
+     */
+    public int getAgingInterval() {
+        return agingInterval;
+    }
+
+    /**
+     * Janela τ do working set, em requisições.
+     */
+    public int getWorkingSetWindow() {
+        return workingSetWindow;
+    }
+
+    /**
+     * Intervalo entre page faults acima do qual o PFF reduz o conjunto
+     * residente.
+     */
+    public int getFaultThreshold() {
+        return faultThreshold;
+    }
+
+    /**
+     * Limita o conjunto residente do WS e do PFF à quantidade de frames; sem
+     * a opção ele cresce o quanto o processo precisar.
+     */
+    public boolean isFrameLimited() {
+        return frameLimited;
+    }
+
+    /**
+     * Simula também as sequências de cada arquivo como processos que
+     * disputam os mesmos frames (output/*_shared.txt).
+     */
+    public boolean isSharedMemory() {
+        return sharedMemory;
+    }
+
+    /**
+     * Substituição local (cada processo apenas entre os seus frames) em vez
+     * de global, no modo de memória compartilhada.
+     */
+    public boolean isLocalReplacement() {
+        return localReplacement;
+    }
+
+    public SchedulingPolicy getScheduling() {
+        return scheduling;
+    }
+
+    /**
+     * Requisições por fatia no escalonamento TIME_SLICED.
+     */
+    public int getQuantum() {
+        return quantum;
+    }
+
+    /**
+     * Peso do processo: requisições por rodada no escalonamento WEIGHTED e
+     * proporção dos frames na substituição local. A lista é repetida quando
+     * há mais processos que pesos.
+     */
+    public int getWeight(int process) {
+        return weights[process % weights.length];
+    }
+
+    /**
+     * Grava o log binário dos eventos de cada requisição
+     * (output/*_events.bin).
+     */
+    public boolean isEventLog() {
+        return eventLog;
+    }
+
+    /**
+     * Requisições por janela da série de taxas de page faults
+     * (output/*_faultrate.txt); 0 desativa a série.
+     */
+    public int getFaultRateWindow() {
+        return faultRateWindow;
+    }
+
+    /**
+     * Simula a TLB e o percurso na tabela de páginas à frente das políticas.
+     */
+    public boolean isTlb() {
+        return tlb;
+    }
+
+    public int getTlbEntries() {
+        return tlbEntries;
+    }
+
+    /**
+     * Vias de cada conjunto da TLB (associatividade).
+     */
+    public int getTlbWays() {
+        return tlbWays;
+    }
+
+    public TLBReplacement getTlbReplacement() {
+        return tlbReplacement;
+    }
+
+    /**
+     * Ciclos de cada nível do percurso na tabela de páginas.
+     */
+    public int getWalkCycles() {
+        return walkCycles;
+    }
+
+    /**
+     * Janela de previsão do MIN no modo incremental.
+     */
+    public int getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Lê traces binários (.bin) mapeados em memória em vez dos arquivos .txt.
+     */
+    public boolean isBinaryInput() {
+        return binaryInput;
+    }
+
+    /**
+     * Apenas converte os arquivos .txt de input/ para o formato binário.
+     */
+    public boolean isConvertOnly() {
+        return convertOnly;
+    }
+
+    /**
+     * Usa o FastInputParser (leitura byte a byte) em vez do Scanner.
+     */
+    public boolean isFastParser() {
+        return fastParser;
+    }
+
+    /**
+     * Executa as quatro políticas de cada sequência em paralelo. Não se aplica
+     * ao modo incremental, em que as requisições chegam em blocos.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Paralelismo do processamento em lote (arquivos e sequências); 0 mantém
+     * o processamento sequencial, arquivo por arquivo.
+     */
+    public int getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Acrescenta a cada resultado uma linha com as métricas de execução
+     * (SimulationMetrics): tempo em ns, vazão, acertos, faltas, despejos,
+     * bytes alocados, tamanho médio e pico do conjunto residente.
+     */
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Grava também a curva de page faults do LRU para todas as quantidades
+     * de frames (output/*_mrc.txt).
+     */
+    public boolean isMissRatioCurve() {
+        return missRatioCurve;
+    }
+
+    /**
+     * Aproxima a curva do LRU por amostragem de páginas (SHARDS), com
+     * memória limitada por getMaxSampledPages().
+     */
+    public boolean isSampledCurve() {
+        return sampledCurve;
+    }
+
+    /**
+     * Taxa inicial de amostragem do modo --shards.
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Quantidade máxima de páginas rastreadas no modo --shards.
+     */
+    public int getMaxSampledPages() {
+        return maxSampledPages;
+    }
+}
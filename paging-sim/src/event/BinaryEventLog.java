@@ -0,0 +1,112 @@
+package event;
+
+import policy.AccessEventBuffer;
+import policy.AccessEventSink;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sink que grava os eventos de acesso em um log binário (little-endian,
+ * alinhado a 4 bytes):
+ *
+ * <pre>
+ * int32 magic ("PEVT")          int32 versão
+ * para cada simulação:
+ *   int32 sequência (a partir de 0)   int32 frames
+ *   int32 tamanho do nome, nome da política em ASCII completado até 4 bytes
+ *   lotes: int32 quantidade N (> 0), seguida de N eventos
+ *          (int64 requisição, int32 página, int32 resultado)
+ *   int32 0 (fim da simulação)
+ * </pre>
+ *
+ * O resultado segue access(): -1 acerto, -2 page fault sem despejo, a página
+ * despejada (>= 0) ou -4 para página liberada sem substituição.
+ */
+public final class BinaryEventLog implements AccessEventSink {
+
+    static final int MAGIC = 0x54564550; // "PEVT" em little-endian
+    static final int VERSION = 1;
+
+    private static final int EVENT_SIZE = Long.BYTES + 2 * Integer.BYTES;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private int sequenceIndex;
+
+    /**
+     * Escreve o cabeçalho do log; o canal continua pertencendo a quem chama.
+     */
+    public BinaryEventLog(WritableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+    }
+
+    /**
+     * Sequência registrada nas próximas simulações.
+     */
+    public void setSequenceIndex(int sequenceIndex) {
+        this.sequenceIndex = sequenceIndex;
+    }
+
+    @Override
+    public void begin(String policyName, int numberOfFrames) {
+        byte[] name = policyName.getBytes(StandardCharsets.US_ASCII);
+        int padding = -name.length & 3;
+
+        reserve(3 * Integer.BYTES + name.length + padding);
+        buffer.putInt(sequenceIndex);
+        buffer.putInt(numberOfFrames);
+        buffer.putInt(name.length);
+        buffer.put(name);
+        for (int i = 0; i < padding; i++) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    @Override
+    public void accept(AccessEventBuffer events) {
+        reserve(Integer.BYTES);
+        buffer.putInt(events.size());
+
+        for (int i = 0; i < events.size(); i++) {
+            reserve(EVENT_SIZE);
+            buffer.putLong(events.requestIndex(i));
+            buffer.putInt(events.page(i));
+            buffer.putInt(events.result(i));
+        }
+    }
+
+    @Override
+    public void end() {
+        reserve(Integer.BYTES);
+        buffer.putInt(0);
+        flush();
+    }
+
+    private void reserve(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package event;
+
+import policy.AccessEventBuffer;
+import policy.AccessEventSink;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * Sink que calcula a taxa de page faults em janelas consecutivas de
+ * requisições. Cada simulação vira duas linhas: o nome da política e as
+ * taxas das janelas em ordem (a última pode ser parcial). As janelas são
+ * escritas à medida que terminam, sem guardar a série em memória.
+ */
+public final class FaultRateSeries implements AccessEventSink {
+
+    private final PrintWriter writer;
+    private final int window;
+    private long windowEnd; // Primeira requisição após a janela atual
+    private int windowRequests;
+    private int windowFaults;
+    private boolean firstWindow;
+
+    /**
+     * @param window requisições por janela
+     */
+    public FaultRateSeries(PrintWriter writer, int window) {
+        this.writer = writer;
+        this.window = window;
+    }
+
+    @Override
+    public void begin(String policyName, int numberOfFrames) {
+        writer.println(policyName);
+        windowEnd = window;
+        windowRequests = 0;
+        windowFaults = 0;
+        firstWindow = true;
+    }
+
+    @Override
+    public void accept(AccessEventBuffer events) {
+        for (int i = 0; i < events.size(); i++) {
+            if (events.result(i) == AccessEventBuffer.RELEASE) {
+                continue;
+            }
+
+            if (events.requestIndex(i) >= windowEnd) {
+                writeWindow();
+                windowEnd += window;
+            }
+
+            windowRequests++;
+            if (events.isFault(i)) {
+                windowFaults++;
+            }
+        }
+    }
+
+    @Override
+    public void end() {
+        if (windowRequests > 0) {
+            writeWindow();
+        }
+
+        writer.println();
+    }
+
+    private void writeWindow() {
+        if (!firstWindow) {
+            writer.print(' ');
+        }
+
+        writer.print(String.format(Locale.ROOT, "%.6f", (double) windowFaults / windowRequests));
+        firstWindow = false;
+        windowRequests = 0;
+        windowFaults = 0;
+    }
+}
@@ -0,0 +1,72 @@
+package model;
+
+import exception.InvalidConfigurationException;
+
+/**
+ * Curva de page faults (miss-ratio curve) de uma política para todas as
+ * quantidades de frames de 1 até getMaxFrames().
+ */
+public class MissRatioCurve {
+
+    private final String policyName;
+    private final long numberOfRequests;
+    private final long[] faults; // faults[k] = page faults com k frames (índice 0 sem uso)
+
+    public MissRatioCurve(String policyName, long numberOfRequests, long[] faults) {
+        this.policyName = policyName;
+        this.numberOfRequests = numberOfRequests;
+        this.faults = faults;
+    }
+
+    /**
+     * Monta a curva a partir do histograma de distâncias de pilha: com k
+     * frames ocorre falta em toda referência de distância maior que k, além
+     * das faltas compulsórias (primeiro acesso de cada página).
+     *
+     * @param histogram histogram[d] = referências com distância d (1..maxFrames)
+     */
+    public static MissRatioCurve fromHistogram(String policyName, long numberOfRequests,
+            long coldMisses, long[] histogram, int maxFrames) {
+        long[] faults = new long[maxFrames + 1];
+        long beyond = coldMisses;
+
+        for (int d = histogram.length - 1; d > maxFrames; d--) {
+            beyond += histogram[d];
+        }
+
+        for (int k = maxFrames; k >= 1; k--) {
+            faults[k] = beyond;
+            if (k < histogram.length) {
+                beyond += histogram[k];
+            }
+        }
+
+        faults[0] = numberOfRequests;
+        return new MissRatioCurve(policyName, numberOfRequests, faults);
+    }
+
+    public String getPolicyName() {
+        return policyName;
+    }
+
+    public long getNumberOfRequests() {
+        return numberOfRequests;
+    }
+
+    public int getMaxFrames() {
+        return faults.length - 1;
+    }
+
+    public long getFaults(int numberOfFrames) {
+        if (numberOfFrames < 1 || numberOfFrames > getMaxFrames()) {
+            throw new InvalidConfigurationException(
+                    String.format("Número de frames %d fora da curva (1 a %d)", numberOfFrames, getMaxFrames()));
+        }
+
+        return faults[numberOfFrames];
+    }
+
+    public double getMissRatio(int numberOfFrames) {
+        return numberOfRequests == 0 ? 0.0 : (double) getFaults(numberOfFrames) / numberOfRequests;
+    }
+}
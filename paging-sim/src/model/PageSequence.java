@@ -1,42 +1,65 @@
 package model;
 
 import validation.InputValidator;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.nio.IntBuffer;
 
 /**
  * Representa uma sequência de requisições de páginas.
  * Valida que todos os índices estão no intervalo [0, maxPages-1].
+ * As requisições ficam em um IntBuffer (normalmente sobre um int[]), e o
+ * acesso é feito por índices primitivos, sem boxing.
  */
 public class PageSequence {
 
-    private final List<Integer> requests;
+    private final IntBuffer requests;
 
-    public PageSequence(List<Integer> requests) {
-        InputValidator.requireNonEmptyList(requests, "Sequência de requisições");
-        this.requests = new ArrayList<>(requests);
+    /**
+     * O vetor passa a pertencer à sequência e não deve ser alterado depois.
+     */
+    public PageSequence(int[] requests) {
+        this(IntBuffer.wrap(requests == null ? new int[0] : requests));
+    }
+
+    /**
+     * Usa as posições [position, limit) do buffer como requisições, sem copiar.
+     */
+    public PageSequence(IntBuffer requests) {
+        InputValidator.requireNonEmptyBuffer(requests, "Sequência de requisições");
+        this.requests = requests.slice().asReadOnlyBuffer();
     }
 
     public void validate(int maxPages) {
-        for (int pageIndex : requests) {
-            InputValidator.requireInRange(pageIndex, 0, maxPages - 1, "Índice de página");
+        for (int i = 0; i < requests.limit(); i++) {
+            InputValidator.requireInRange(requests.get(i), 0, maxPages - 1, "Índice de página");
         }
     }
 
-    public List<Integer> getRequests() {
-        return Collections.unmodifiableList(requests);
+    public int get(int index) {
+        return requests.get(index);
+    }
+
+    /**
+     * Visão somente leitura das requisições (posição 0 até size()), sem cópia.
+     */
+    public IntBuffer asIntBuffer() {
+        return requests.duplicate();
+    }
+
+    public int[] toArray() {
+        int[] array = new int[requests.limit()];
+        requests.duplicate().get(array);
+        return array;
     }
 
     public int size() {
-        return requests.size();
+        return requests.limit();
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
 
-        for (int i = 0; i < requests.size(); i++) {
+        for (int i = 0; i < requests.limit(); i++) {
             if (i > 0) {
                 sb.append(" ");
             }
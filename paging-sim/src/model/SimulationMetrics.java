@@ -0,0 +1,87 @@
+package model;
+
+/**
+ * Métricas de execução de uma simulação, medidas em alta resolução.
+ * O tempo em nanossegundos e a alocação cobrem apenas o laço de requisições
+ * (de begin() até finish(), sem a montagem do resultado). A alocação é a da
+ * thread que executou a simulação, ou -1 quando a JVM não a informa.
+ */
+public class SimulationMetrics {
+
+    public static final long UNSUPPORTED = -1L;
+
+    private final long elapsedNanos;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long allocatedBytes;
+    private final double averageResidentPages;
+    private final int peakResidentPages;
+    private final long writeBacks;
+
+    public SimulationMetrics(long elapsedNanos, long hits, long misses, long evictions,
+            long allocatedBytes, double averageResidentPages, int peakResidentPages, long writeBacks) {
+        this.elapsedNanos = elapsedNanos;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.allocatedBytes = allocatedBytes;
+        this.averageResidentPages = averageResidentPages;
+        this.peakResidentPages = peakResidentPages;
+        this.writeBacks = writeBacks;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getRequests() {
+        return hits + misses;
+    }
+
+    public double getRequestsPerSecond() {
+        return elapsedNanos > 0 ? getRequests() * 1_000_000_000.0 / elapsedNanos : 0.0;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Page faults, incluindo as cargas em frames livres.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Páginas que deixaram a memória, por substituição ou por redução do
+     * conjunto residente.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Tamanho médio do conjunto residente, medido após cada requisição.
+     */
+    public double getAverageResidentPages() {
+        return averageResidentPages;
+    }
+
+    public int getPeakResidentPages() {
+        return peakResidentPages;
+    }
+
+    /**
+     * Páginas modificadas escritas no swap ao serem despejadas, ou -1 quando
+     * a política não acompanha o bit de modificação.
+     */
+    public long getWriteBacks() {
+        return writeBacks;
+    }
+}
@@ -1,27 +1,48 @@
 package model;
 
-import java.util.Collections;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.BitSet;
+import java.util.stream.IntStream;
 
 /**
  * Representa o resultado de uma simulação de política de substituição.
  * Contém métricas de desempenho (page faults, tempo) e estado final do swap.
- * Utiliza TreeSet para manter o swap ordenado na saída.
+ * O swap é um BitSet indexado por página (um bit por página virtual), lido em
+ * ordem crescente sem boxing nem cópias.
  */
 public class SimulationResult {
 
     private final String policyName;
     private final long executionTimeSeconds;
     private final int pageFaults;
-    private final Set<Integer> swapState; // TreeSet mantém ordenação automática
+    private final BitSet swapState; // Bit ligado = página no swap
+    private final SimulationMetrics metrics;
+    private final TranslationMetrics translation; // null sem --tlb
 
+    /**
+     * O BitSet passa a pertencer ao resultado e não deve ser alterado depois.
+     */
     public SimulationResult(String policyName, long executionTimeSeconds,
-            int pageFaults, Set<Integer> swapState) {
+            int pageFaults, BitSet swapState, SimulationMetrics metrics) {
+        this(policyName, executionTimeSeconds, pageFaults, swapState, metrics, null);
+    }
+
+    private SimulationResult(String policyName, long executionTimeSeconds, int pageFaults, BitSet swapState,
+            SimulationMetrics metrics, TranslationMetrics translation) {
         this.policyName = policyName;
         this.executionTimeSeconds = executionTimeSeconds;
         this.pageFaults = pageFaults;
-        this.swapState = new TreeSet<>(swapState);
+        this.swapState = swapState;
+        this.metrics = metrics;
+        this.translation = translation;
+    }
+
+    /**
+     * Cópia do resultado com as métricas da tradução de endereços (o swap é
+     * compartilhado, sem cópia).
+     */
+    public SimulationResult withTranslation(TranslationMetrics translation) {
+        return new SimulationResult(policyName, executionTimeSeconds, pageFaults, swapState, metrics,
+                translation);
     }
 
     public String getPolicyName() {
@@ -36,24 +57,38 @@ public class SimulationResult {
         return pageFaults;
     }
 
-    public Set<Integer> getSwapState() {
-        return Collections.unmodifiableSet(swapState);
+    public SimulationMetrics getMetrics() {
+        return metrics;
     }
 
-    public String getSwapStateFormatted() {
-        if (swapState.isEmpty()) {
-            return "0";
-        }
+    /**
+     * Métricas da tradução de endereços, ou null quando a TLB não foi
+     * simulada.
+     */
+    public TranslationMetrics getTranslation() {
+        return translation;
+    }
 
-        StringBuilder sb = new StringBuilder();
-        for (int page : swapState) {
-            if (sb.length() > 0) {
-                sb.append(" ");
-            }
+    public boolean isInSwap(int pageIndex) {
+        return swapState.get(pageIndex);
+    }
+
+    public int getSwapSize() {
+        return swapState.cardinality();
+    }
 
-            sb.append(page);
-        }
+    /**
+     * Primeira página no swap a partir de fromPage (inclusive), ou -1 se não
+     * houver mais nenhuma.
+     */
+    public int nextSwapPage(int fromPage) {
+        return swapState.nextSetBit(fromPage);
+    }
 
-        return sb.toString();
+    /**
+     * Páginas no swap em ordem crescente, percorridas sob demanda.
+     */
+    public IntStream swapPages() {
+        return swapState.stream();
     }
 }
@@ -0,0 +1,66 @@
+package model;
+
+/**
+ * Métricas da tradução de endereços de uma simulação (--tlb): consultas à
+ * TLB, acertos, percursos na tabela de páginas e o custo estimado em ciclos.
+ */
+public class TranslationMetrics {
+
+    private final long accesses;
+    private final long tlbHits;
+    private final long walks;
+    private final int walkLevels;
+    private final long cycles;
+    private final long tlbReach;
+
+    public TranslationMetrics(long accesses, long tlbHits, long walks, int walkLevels, long cycles,
+            long tlbReach) {
+        this.accesses = accesses;
+        this.tlbHits = tlbHits;
+        this.walks = walks;
+        this.walkLevels = walkLevels;
+        this.cycles = cycles;
+        this.tlbReach = tlbReach;
+    }
+
+    public long getAccesses() {
+        return accesses;
+    }
+
+    public long getTlbHits() {
+        return tlbHits;
+    }
+
+    public double getTlbHitRate() {
+        return accesses > 0 ? (double) tlbHits / accesses : 0.0;
+    }
+
+    /**
+     * Percursos na tabela de páginas (um por falta na TLB).
+     */
+    public long getWalks() {
+        return walks;
+    }
+
+    /**
+     * Níveis da tabela de páginas percorridos em cada percurso.
+     */
+    public int getWalkLevels() {
+        return walkLevels;
+    }
+
+    public long getCycles() {
+        return cycles;
+    }
+
+    public double getCyclesPerAccess() {
+        return accesses > 0 ? (double) cycles / accesses : 0.0;
+    }
+
+    /**
+     * Memória coberta pela TLB cheia, em bytes (entradas × tamanho da página).
+     */
+    public long getTlbReach() {
+        return tlbReach;
+    }
+}
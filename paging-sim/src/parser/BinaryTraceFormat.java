@@ -0,0 +1,42 @@
+package parser;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout do formato binário de traces (little-endian, alinhado a 4 bytes):
+ *
+ * <pre>
+ * int32 magic ("PSIM")          int32 versão
+ * int32 memória física          int32 memória virtual
+ * int32 arquitetura (0 = x86, 1 = x64)
+ * int32 número de páginas       int32 número de sequências
+ * para cada sequência: int32 quantidade N, seguida de N int32 (páginas)
+ * </pre>
+ */
+final class BinaryTraceFormat {
+
+    static final int MAGIC = 0x4D495350; // "PSIM" em little-endian
+    static final int VERSION = 1;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int HEADER_SIZE = 7 * Integer.BYTES;
+    static final int SEQUENCE_COUNT_OFFSET = 6 * Integer.BYTES;
+
+    private BinaryTraceFormat() {
+    }
+
+    static int encodeArchitecture(String architecture) {
+        return architecture.equals("x64") ? 1 : 0;
+    }
+
+    static String decodeArchitecture(int code) {
+        switch (code) {
+            case 0:
+                return "x86";
+            case 1:
+                return "x64";
+            default:
+                return String.valueOf(code);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package parser;
+
+import exception.InvalidInputException;
+import model.PageSequence;
+import model.SystemConfiguration;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de traces no formato binário (BinaryTraceFormat).
+ * O arquivo é mapeado em memória com FileChannel.map e cada sequência é
+ * exposta como um IntBuffer sobre uma fatia do mapeamento, sem cópia nem
+ * parsing: a mesma entrada pode ser simulada repetidas vezes pagando apenas o
+ * custo de leitura das páginas pelo sistema operacional. Um mapeamento cobre
+ * até 2 GB; arquivos maiores são mapeados em janelas sucessivas.
+ */
+public class BinaryTraceReader implements AutoCloseable {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final long MAX_MAPPING_SIZE = Integer.MAX_VALUE;
+
+    private final File file;
+    private final FileChannel channel;
+    private int numberOfSequences;
+    private MappedByteBuffer mapping;
+    private long mappingStart; // Posição do arquivo no início do mapeamento
+
+    public BinaryTraceReader(File file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
+    public SystemConfiguration readConfiguration() throws IOException {
+        ByteBuffer header = readAt(0, BinaryTraceFormat.HEADER_SIZE);
+
+        if (header.getInt() != BinaryTraceFormat.MAGIC) {
+            throw new InvalidInputException("Arquivo binário", file.getName(), "não é um trace do simulador");
+        }
+
+        int version = header.getInt();
+        if (version != BinaryTraceFormat.VERSION) {
+            throw new InvalidInputException("Versão do trace", version,
+                    "versão suportada: " + BinaryTraceFormat.VERSION);
+        }
+
+        int physicalMemorySize = header.getInt();
+        int virtualMemorySize = header.getInt();
+        String architecture = BinaryTraceFormat.decodeArchitecture(header.getInt());
+        int numberOfPages = header.getInt();
+        numberOfSequences = header.getInt();
+
+        // Cada sequência ocupa ao menos a quantidade e uma página
+        long maxSequences = (channel.size() - BinaryTraceFormat.HEADER_SIZE) / (2 * Integer.BYTES);
+        if (numberOfSequences < 0 || numberOfSequences > maxSequences) {
+            throw new InvalidInputException("Número de sequências", numberOfSequences,
+                    "inconsistente com o tamanho do arquivo");
+        }
+
+        return new SystemConfiguration(physicalMemorySize, virtualMemorySize,
+                architecture, numberOfPages);
+    }
+
+    /**
+     * Mapeia as sequências do arquivo; deve ser chamado após
+     * readConfiguration(). Os buffers continuam válidos após close().
+     */
+    public List<PageSequence> readSequences(SystemConfiguration config) throws IOException {
+        List<PageSequence> sequences = new ArrayList<>(numberOfSequences);
+        long size = channel.size();
+        long position = BinaryTraceFormat.HEADER_SIZE;
+
+        for (int i = 0; i < numberOfSequences; i++) {
+            if (position + Integer.BYTES > size) {
+                throw new InvalidInputException("Arquivo binário", file.getName(), "terminou inesperadamente");
+            }
+
+            int numberOfRequests = slice(position, Integer.BYTES).getInt();
+            position += Integer.BYTES;
+
+            long bytes = (long) numberOfRequests * Integer.BYTES;
+            if (numberOfRequests <= 0 || position + bytes > size) {
+                throw new InvalidInputException("Número de requisições", numberOfRequests,
+                        "inconsistente com o tamanho do arquivo");
+            }
+            if (bytes > MAX_MAPPING_SIZE) {
+                throw new InvalidInputException("Número de requisições", numberOfRequests,
+                        "excede o tamanho máximo de um mapeamento (2 GB)");
+            }
+
+            IntBuffer requests = slice(position, (int) bytes).asIntBuffer();
+            position += bytes;
+
+            PageSequence sequence = new PageSequence(requests);
+            sequence.validate(config.getNumberOfPages());
+            sequences.add(sequence);
+        }
+
+        if (position != channel.size()) {
+            throw new InvalidInputException("Número de sequências", numberOfSequences,
+                    "inconsistente com o tamanho do arquivo");
+        }
+
+        return sequences;
+    }
+
+    /**
+     * Fatia [position, position + length) do arquivo, que já deve caber nele;
+     * só cria um novo mapeamento quando a fatia sai do atual.
+     */
+    private ByteBuffer slice(long position, int length) throws IOException {
+        if (mapping == null || position < mappingStart
+                || position + length > mappingStart + mapping.capacity()) {
+            long size = Math.min(channel.size() - position, MAX_MAPPING_SIZE);
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            mappingStart = position;
+        }
+
+        return mapping.slice((int) (position - mappingStart), length).order(BinaryTraceFormat.BYTE_ORDER);
+    }
+
+    private ByteBuffer readAt(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(BinaryTraceFormat.BYTE_ORDER);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new InvalidInputException("Arquivo binário", file.getName(), "terminou inesperadamente");
+            }
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
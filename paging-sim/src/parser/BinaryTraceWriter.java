@@ -0,0 +1,121 @@
+package parser;
+
+import model.SystemConfiguration;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Converte arquivos de entrada no formato texto para o formato binário
+ * descrito em BinaryTraceFormat. A leitura usa o modo incremental do
+ * FastInputParser, então a conversão também ocupa memória constante.
+ */
+public final class BinaryTraceWriter implements SequenceListener {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    private BinaryTraceWriter(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BinaryTraceFormat.BYTE_ORDER);
+    }
+
+    /**
+     * Converte textInput para binaryOutput, sobrescrevendo o destino. O
+     * arquivo é gravado em um temporário no mesmo diretório e renomeado ao
+     * final, então uma conversão interrompida não deixa um .bin incompleto.
+     */
+    public static void convert(File textInput, File binaryOutput) throws IOException {
+        Path target = binaryOutput.getAbsoluteFile().toPath();
+        // Criado por FileChannel.open, com as permissões padrão de um arquivo novo
+        Path temp = target.resolveSibling(binaryOutput.getName() + ".tmp");
+
+        try {
+            try (FileInputStream input = new FileInputStream(textInput);
+                    FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+                TraceParser parser = new FastInputParser(input.getChannel());
+                SystemConfiguration config = parser.readConfiguration();
+
+                BinaryTraceWriter writer = new BinaryTraceWriter(channel);
+                writer.writeHeader(config);
+
+                int numberOfSequences = parser.streamSequences(config, writer, CHUNK_SIZE);
+                writer.flush();
+
+                // O total de sequências só é conhecido após a leitura
+                ByteBuffer count = ByteBuffer.allocate(Integer.BYTES).order(BinaryTraceFormat.BYTE_ORDER);
+                count.putInt(numberOfSequences).flip();
+                channel.write(count, BinaryTraceFormat.SEQUENCE_COUNT_OFFSET);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeHeader(SystemConfiguration config) {
+        buffer.putInt(BinaryTraceFormat.MAGIC);
+        buffer.putInt(BinaryTraceFormat.VERSION);
+        buffer.putInt(config.getPhysicalMemorySize());
+        buffer.putInt(config.getVirtualMemorySize());
+        buffer.putInt(BinaryTraceFormat.encodeArchitecture(config.getArchitecture()));
+        buffer.putInt(config.getNumberOfPages());
+        buffer.putInt(0);
+    }
+
+    @Override
+    public void beginSequence(int sequenceIndex, int numberOfRequests) {
+        putInt(numberOfRequests);
+    }
+
+    @Override
+    public void onRequests(int[] chunk, int length) {
+        for (int i = 0; i < length; i++) {
+            putInt(chunk[i]);
+        }
+    }
+
+    @Override
+    public void endSequence(int sequenceIndex) {
+    }
+
+    private void putInt(int value) {
+        if (buffer.remaining() < Integer.BYTES) {
+            flush();
+        }
+
+        buffer.putInt(value);
+    }
+
+    private void flush() {
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.clear();
+    }
+}
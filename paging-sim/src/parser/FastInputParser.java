@@ -0,0 +1,392 @@
+package parser;
+
+import exception.InvalidInputException;
+import model.PageSequence;
+import model.SystemConfiguration;
+import validation.InputValidator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Parser do formato texto que lê bytes diretamente de um canal, por meio de
+ * um ByteBuffer direto, e converte os inteiros ASCII manualmente para um
+ * int[], sem Scanner, expressões regulares ou Strings por token.
+ * Os índices são validados durante a leitura, mas os erros só são informados
+ * no fim da linha, na mesma ordem e com as mesmas mensagens do InputParser:
+ * primeiro a contagem, depois os tokens não numéricos e por fim o intervalo.
+ */
+public class FastInputParser implements TraceParser {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int EOF = -1;
+    private static final int INITIAL_SEQUENCE_CAPACITY = 4096;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private boolean endOfInput;
+
+    public FastInputParser(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.buffer.flip();
+    }
+
+    @Override
+    public SystemConfiguration readConfiguration() {
+        try {
+            int physicalMemorySize = readPositiveInt("Tamanho da memória física");
+            int virtualMemorySize = readPositiveInt("Tamanho da memória virtual");
+            String architecture = readArchitecture();
+            int numberOfPages = readPositiveInt("Número de páginas");
+
+            return new SystemConfiguration(physicalMemorySize, virtualMemorySize,
+                    architecture, numberOfPages);
+        } catch (Exception e) {
+            throw new InvalidInputException("Erro ao ler configurações: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<PageSequence> readSequences(SystemConfiguration config) {
+        try {
+            skipLine();
+
+            int numberOfSequences = readPositiveInt("Número de sequências");
+            List<PageSequence> sequences = new ArrayList<>();
+
+            for (int i = 0; i < numberOfSequences; i++) {
+                skipLine();
+
+                int numberOfRequests = readPositiveInt("Número de requisições");
+                skipLine();
+
+                // A contagem declarada não é confiável: o vetor cresce com os tokens
+                int[] requests = new int[Math.min(numberOfRequests, INITIAL_SEQUENCE_CAPACITY)];
+                requests = readRequestLine(numberOfRequests, config.getNumberOfPages(), requests, null);
+                sequences.add(new PageSequence(requests));
+            }
+
+            return sequences;
+        } catch (Exception e) {
+            throw new InvalidInputException("Erro ao ler sequências: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public int streamSequences(SystemConfiguration config, SequenceListener listener, int chunkSize) {
+        try {
+            skipLine();
+
+            int numberOfSequences = readPositiveInt("Número de sequências");
+            int[] chunk = new int[chunkSize];
+
+            for (int i = 0; i < numberOfSequences; i++) {
+                skipLine();
+
+                int numberOfRequests = readPositiveInt("Número de requisições");
+                skipLine();
+
+                listener.beginSequence(i, numberOfRequests);
+                readRequestLine(numberOfRequests, config.getNumberOfPages(), chunk, listener);
+                listener.endSequence(i);
+            }
+
+            return numberOfSequences;
+        } catch (Exception e) {
+            throw new InvalidInputException("Erro ao ler sequências: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lê a linha de requisições. Sem listener, grava em target, dobrando-o
+     * quando enche (até numberOfRequests), e devolve o vetor final, com
+     * exatamente numberOfRequests posições; com listener, usa target como
+     * bloco reaproveitado. O preenchimento para no primeiro token inválido.
+     */
+    private int[] readRequestLine(int numberOfRequests, int maxPages, int[] target,
+            SequenceListener listener) {
+        if (peek() == EOF) {
+            throw new NoSuchElementException("No line found");
+        }
+
+        int tokens = 0;
+        int filled = 0;
+        InvalidInputException formatError = null; // Primeiro token não numérico
+        boolean inRange = true;
+        int invalidPage = 0; // Primeiro índice fora do intervalo
+
+        while (true) {
+            int c = skipBlanks();
+            if (c == '\n' || c == EOF) {
+                break;
+            }
+
+            if (tokens++ >= numberOfRequests) {
+                skipToken(); // Apenas contabiliza o excedente para a mensagem de erro
+                continue;
+            }
+
+            int pageIndex;
+            try {
+                pageIndex = readPageIndex();
+            } catch (InvalidInputException e) {
+                if (formatError == null) {
+                    formatError = e;
+                }
+                continue;
+            }
+
+            if (inRange && (pageIndex < 0 || pageIndex > maxPages - 1)) {
+                inRange = false;
+                invalidPage = pageIndex;
+            }
+            if (!inRange || formatError != null) {
+                continue;
+            }
+
+            if (filled == target.length) {
+                if (listener == null) {
+                    target = Arrays.copyOf(target, (int) Math.min(2L * target.length, numberOfRequests));
+                } else {
+                    listener.onRequests(target, filled);
+                    filled = 0;
+                }
+            }
+
+            target[filled++] = pageIndex;
+        }
+
+        if (peek() == '\n') {
+            next();
+        }
+
+        // Linha vazia equivale a um único token vazio (como split("\\s+"))
+        if (tokens == 0) {
+            if (numberOfRequests == 1) {
+                throw new InvalidInputException("Índice de página", "", "deve ser um número inteiro");
+            }
+            tokens = 1;
+        }
+
+        if (tokens != numberOfRequests) {
+            throw new InvalidInputException(
+                    String.format("Esperado %d requisições, encontrado %d",
+                            numberOfRequests, tokens));
+        }
+        if (formatError != null) {
+            throw formatError;
+        }
+        if (!inRange) {
+            InputValidator.requireInRange(invalidPage, 0, maxPages - 1, "Índice de página");
+        }
+
+        if (listener != null && filled > 0) {
+            listener.onRequests(target, filled);
+        }
+
+        return target;
+    }
+
+    private int readPageIndex() {
+        boolean negative = false;
+        int c = peek();
+
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            next();
+            c = peek();
+        }
+
+        long value = 0;
+        int digits = 0;
+
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            digits++;
+            next();
+            c = peek();
+
+            if (value > Integer.MAX_VALUE + 1L) {
+                break;
+            }
+        }
+
+        if (digits == 0 || !isDelimiter(c) || value > Integer.MAX_VALUE + (negative ? 1L : 0L)) {
+            throw new InvalidInputException("Índice de página", restOfToken(negative, value, digits),
+                    "deve ser um número inteiro");
+        }
+
+        return (int) (negative ? -value : value);
+    }
+
+    private int readPositiveInt(String fieldName) {
+        int c = skipWhitespace();
+
+        if (c == EOF) {
+            throw new InvalidInputException(fieldName, "<não numérico>", "deve ser um número inteiro");
+        }
+
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            next();
+            c = peek();
+        }
+
+        long value = 0;
+        int digits = 0;
+
+        while (c >= '0' && c <= '9' && value <= Integer.MAX_VALUE) {
+            value = value * 10 + (c - '0');
+            digits++;
+            next();
+            c = peek();
+        }
+
+        if (digits == 0 || !isDelimiter(c) || value > Integer.MAX_VALUE + (negative ? 1L : 0L)) {
+            throw new InvalidInputException(fieldName, "<não numérico>", "deve ser um número inteiro");
+        }
+
+        int result = (int) (negative ? -value : value);
+        if (result <= 0) {
+            throw new InvalidInputException(fieldName, result, "deve ser positivo");
+        }
+
+        return result;
+    }
+
+    private String readArchitecture() {
+        int c = skipWhitespace();
+
+        if (c == EOF) {
+            throw new InvalidInputException("Arquitetura não encontrada");
+        }
+
+        StringBuilder token = new StringBuilder();
+        while (!isDelimiter(c)) {
+            token.append((char) c);
+            next();
+            c = peek();
+        }
+
+        String arch = token.toString();
+        if (!arch.equals("x86") && !arch.equals("x64")) {
+            throw new InvalidInputException("Arquitetura", arch, "deve ser 'x86' ou 'x64'");
+        }
+
+        return arch;
+    }
+
+    // Reconstrói o token inválido apenas no caminho de erro
+    private String restOfToken(boolean negative, long value, int digits) {
+        StringBuilder token = new StringBuilder();
+
+        if (negative) {
+            token.append('-');
+        }
+        if (digits > 0) {
+            token.append(value);
+        }
+
+        int c = peek();
+        while (!isDelimiter(c)) {
+            token.append((char) c);
+            next();
+            c = peek();
+        }
+
+        return token.toString();
+    }
+
+    private void skipToken() {
+        int c = peek();
+
+        while (!isDelimiter(c)) {
+            next();
+            c = peek();
+        }
+    }
+
+    // Equivalente a Scanner.nextLine(): descarta o restante da linha atual
+    private void skipLine() {
+        int c = peek();
+
+        while (c != EOF && c != '\n') {
+            next();
+            c = peek();
+        }
+
+        if (c == '\n') {
+            next();
+        }
+    }
+
+    private int skipWhitespace() {
+        int c = peek();
+
+        while (c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f') {
+            next();
+            c = peek();
+        }
+
+        return c;
+    }
+
+    // Pula espaços sem atravessar a quebra de linha
+    private int skipBlanks() {
+        int c = peek();
+
+        while (c == ' ' || c == '\t' || c == '\r' || c == '\f') {
+            next();
+            c = peek();
+        }
+
+        return c;
+    }
+
+    private static boolean isDelimiter(int c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f' || c == EOF;
+    }
+
+    private int peek() {
+        if (!buffer.hasRemaining() && !fill()) {
+            return EOF;
+        }
+
+        return buffer.get(buffer.position()) & 0xFF;
+    }
+
+    private void next() {
+        buffer.position(buffer.position() + 1);
+    }
+
+    private boolean fill() {
+        if (endOfInput) {
+            return false;
+        }
+
+        buffer.clear();
+
+        try {
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+
+            if (read < 0) {
+                endOfInput = true;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.flip();
+        return buffer.hasRemaining();
+    }
+}
@@ -3,16 +3,24 @@ package parser;
 import exception.InvalidInputException;
 import model.SystemConfiguration;
 import model.PageSequence;
+import validation.InputValidator;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.regex.Pattern;
 
 /**
  * Parser responsável por ler e validar a entrada padrão (stdin).
  * Processa configurações do sistema (memória, arquitetura, páginas) e
  * sequências de requisições conforme especificação do projeto.
  */
-public class InputParser {
+public class InputParser implements TraceParser {
+
+    // Um passo da linha de requisições: separadores (\s sem as quebras de
+    // linha) seguidos de um token, do terminador da linha ou do fim da entrada
+    private static final Pattern LINE_STEP = Pattern.compile(
+            "[ \\t\\x0B\\f]*+([^\\s\\u0085\\u2028\\u2029]++|\\r\\n|[\\n\\r\\u0085\\u2028\\u2029]|$)");
 
     private final Scanner scanner;
 
@@ -20,6 +28,7 @@ public class InputParser {
         this.scanner = scanner;
     }
 
+    @Override
     public SystemConfiguration readConfiguration() {
         try {
             int physicalMemorySize = readPositiveInt("Tamanho da memória física");
@@ -34,6 +43,7 @@ public class InputParser {
         }
     }
 
+    @Override
     public List<PageSequence> readSequences(SystemConfiguration config) {
         try {
             if (scanner.hasNextLine()) {
@@ -59,14 +69,140 @@ public class InputParser {
         }
     }
 
-    private PageSequence readSingleSequence() {
+    /**
+     * Lê as sequências em blocos de até chunkSize requisições e as entrega ao
+     * listener, sem materializar nenhuma sequência nem a linha de requisições:
+     * a memória usada depende apenas de chunkSize e do maior token, não do
+     * tamanho do trace.
+     *
+     * @return número de sequências lidas
+     */
+    @Override
+    public int streamSequences(SystemConfiguration config, SequenceListener listener, int chunkSize) {
+        try {
+            if (scanner.hasNextLine()) {
+                scanner.nextLine();
+            }
+
+            int numberOfSequences = readPositiveInt("Número de sequências");
+            int[] chunk = new int[chunkSize];
+
+            for (int i = 0; i < numberOfSequences; i++) {
+                if (scanner.hasNextLine()) {
+                    scanner.nextLine();
+                }
+
+                streamSingleSequence(i, config.getNumberOfPages(), chunk, listener);
+            }
+
+            return numberOfSequences;
+        } catch (Exception e) {
+            throw new InvalidInputException("Erro ao ler sequências: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Percorre a linha da sequência token a token, direto do Scanner, e aceita
+     * e rejeita as mesmas entradas que readSingleSequence, com as mesmas
+     * mensagens: primeiro a contagem, depois os tokens não numéricos e por fim
+     * o intervalo. Como a contagem só é conhecida no fim da linha, os erros
+     * são guardados até lá; os blocos param no primeiro token inválido.
+     */
+    private void streamSingleSequence(int sequenceIndex, int maxPages, int[] chunk,
+            SequenceListener listener) {
         int numberOfRequests = readPositiveInt("Número de requisições");
 
         if (scanner.hasNextLine()) {
             scanner.nextLine();
         }
 
-        List<Integer> requests = new ArrayList<>();
+        listener.beginSequence(sequenceIndex, numberOfRequests);
+        int tokens = 0;
+        int filled = 0;
+        String invalidToken = null; // Primeiro token não numérico
+        boolean inRange = true;
+        int invalidPage = 0; // Primeiro índice fora do intervalo
+
+        while (true) {
+            String step = scanner.findWithinHorizon(LINE_STEP, 0);
+
+            if (step == null || step.isEmpty() && tokens == 0) {
+                // Fim da entrada antes da linha, como em nextLine()
+                throw new NoSuchElementException("No line found");
+            }
+
+            String token = scanner.match().group(1);
+            if (token.isEmpty() || !isTokenStart(token.charAt(0))) {
+                break;
+            }
+
+            // Excedentes só entram na contagem: a divergência é o primeiro erro
+            if (++tokens > numberOfRequests) {
+                continue;
+            }
+
+            int pageIndex;
+            try {
+                pageIndex = Integer.parseInt(token);
+            } catch (NumberFormatException e) {
+                if (invalidToken == null) {
+                    invalidToken = token;
+                }
+                continue;
+            }
+
+            if (inRange && (pageIndex < 0 || pageIndex > maxPages - 1)) {
+                inRange = false;
+                invalidPage = pageIndex;
+            }
+            if (!inRange || invalidToken != null) {
+                continue;
+            }
+
+            chunk[filled++] = pageIndex;
+
+            if (filled == chunk.length) {
+                listener.onRequests(chunk, filled);
+                filled = 0;
+            }
+        }
+
+        // Uma linha vazia equivale a um único token vazio em split("\\s+")
+        if (tokens == 0) {
+            tokens = 1;
+            invalidToken = "";
+        }
+
+        if (tokens != numberOfRequests) {
+            throw new InvalidInputException(
+                    String.format("Esperado %d requisições, encontrado %d",
+                            numberOfRequests, tokens));
+        }
+        if (invalidToken != null) {
+            throw new InvalidInputException("Índice de página", invalidToken, "deve ser um número inteiro");
+        }
+        if (!inRange) {
+            InputValidator.requireInRange(invalidPage, 0, maxPages - 1, "Índice de página");
+        }
+
+        if (filled > 0) {
+            listener.onRequests(chunk, filled);
+        }
+
+        listener.endSequence(sequenceIndex);
+    }
+
+    // Terminadores de linha reconhecidos por nextLine() não contam como token
+    private static boolean isTokenStart(char c) {
+        return c != '\n' && c != '\r' && c != '\u0085' && c != '\u2028' && c != '\u2029';
+    }
+
+    private PageSequence readSingleSequence() {
+        int numberOfRequests = readPositiveInt("Número de requisições");
+
+        if (scanner.hasNextLine()) {
+            scanner.nextLine();
+        }
 
         String line = scanner.nextLine().trim();
         String[] tokens = line.split("\\s+");
@@ -77,10 +213,12 @@ public class InputParser {
                             numberOfRequests, tokens.length));
         }
 
-        for (String token : tokens) {
+        int[] requests = new int[tokens.length];
+
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
             try {
-                int pageIndex = Integer.parseInt(token);
-                requests.add(pageIndex);
+                requests[i] = Integer.parseInt(token);
             } catch (NumberFormatException e) {
                 throw new InvalidInputException("Índice de página", token, "deve ser um número inteiro");
             }
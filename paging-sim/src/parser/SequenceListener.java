@@ -0,0 +1,15 @@
+package parser;
+
+/**
+ * Receptor das sequências lidas em modo incremental pelo InputParser.
+ * As requisições chegam em blocos; o vetor do bloco é reutilizado pelo
+ * parser e só é válido durante a chamada de onRequests.
+ */
+public interface SequenceListener {
+
+    void beginSequence(int sequenceIndex, int numberOfRequests);
+
+    void onRequests(int[] chunk, int length);
+
+    void endSequence(int sequenceIndex);
+}
@@ -0,0 +1,23 @@
+package parser;
+
+import model.PageSequence;
+import model.SystemConfiguration;
+import java.util.List;
+
+/**
+ * Contrato comum dos parsers do formato texto de entrada.
+ */
+public interface TraceParser {
+
+    SystemConfiguration readConfiguration();
+
+    List<PageSequence> readSequences(SystemConfiguration config);
+
+    /**
+     * Entrega as sequências em blocos de até chunkSize requisições, sem
+     * materializá-las.
+     *
+     * @return número de sequências lidas
+     */
+    int streamSequences(SystemConfiguration config, SequenceListener listener, int chunkSize);
+}
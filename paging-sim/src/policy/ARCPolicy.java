@@ -0,0 +1,207 @@
+package policy;
+
+import java.util.Arrays;
+
+/**
+ * Política ARC (Adaptive Replacement Cache) de substituição de páginas.
+ * As páginas residentes ficam em T1 (vistas uma vez recentemente) e T2 (vistas
+ * ao menos duas vezes); B1 e B2 guardam apenas o histórico (fantasmas) das
+ * páginas despejadas de cada uma. Um acerto em B1 aumenta o alvo p do tamanho
+ * de T1 e um acerto em B2 o reduz, de modo que a política se adapta entre
+ * recência e frequência e resiste a varreduras sequenciais.
+ * As quatro listas são listas duplamente encadeadas intrusivas sobre um único
+ * conjunto de vetores de nós (2 × frames nós mais quatro sentinelas), e o
+ * índice página → nó é um int[]; todas as operações custam O(1) e não alocam
+ * memória.
+ */
+public class ARCPolicy extends AbstractPageReplacementPolicy {
+
+    private static final int T1 = 0;
+    private static final int T2 = 1;
+    private static final int B1 = 2;
+    private static final int B2 = 3;
+
+    private int[] nodePage; // nodePage[nó] = página
+    private int[] nodeList; // nodeList[nó] = T1, T2, B1 ou B2
+    private int[] prev; // vizinho mais recente (os nós 'sentinel + lista' são sentinelas)
+    private int[] next; // vizinho menos recente; também encadeia os nós livres
+    private int[] pageToNode; // pageToNode[página] = nó (ABSENT se fora das listas)
+    private final int[] sizes = new int[4];
+    private int sentinel; // Primeiro sentinela (2 × numberOfFrames)
+    private int freeNode; // Topo da pilha de nós livres
+    private int target; // Alvo p do tamanho de T1
+
+    public ARCPolicy() {
+        this(0);
+    }
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (dimensiona o índice
+     *                      página → nó); 0 deriva o tamanho da sequência
+     */
+    public ARCPolicy(int numberOfPages) {
+        super(numberOfPages);
+        this.nodePage = new int[0];
+        this.nodeList = new int[0];
+        this.prev = new int[4];
+        this.next = new int[4];
+        this.pageToNode = new int[numberOfPages];
+    }
+
+    @Override
+    public String getPolicyName() {
+        return "ARC";
+    }
+
+    @Override
+    protected void allocate(int numberOfFrames, int pageCount) {
+        int nodes = 2 * numberOfFrames;
+
+        if (nodePage.length != nodes) {
+            nodePage = new int[nodes];
+            nodeList = new int[nodes];
+            prev = new int[nodes + 4];
+            next = new int[nodes + 4];
+        }
+
+        if (pageToNode.length < pageCount) {
+            pageToNode = new int[pageCount];
+        }
+
+        sentinel = nodes;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(pageToNode, ABSENT);
+        Arrays.fill(sizes, 0);
+        target = 0;
+
+        for (int list = T1; list <= B2; list++) {
+            prev[sentinel + list] = sentinel + list;
+            next[sentinel + list] = sentinel + list;
+        }
+
+        for (int node = 0; node < sentinel; node++) {
+            next[node] = node + 1 < sentinel ? node + 1 : ABSENT;
+        }
+        freeNode = sentinel > 0 ? 0 : ABSENT;
+    }
+
+    @Override
+    public int access(int pageIndex) {
+        int node = pageToNode[pageIndex];
+        int list = node == ABSENT ? ABSENT : nodeList[node];
+
+        if (list == T1 || list == T2) {
+            moveToMostRecent(node, T2);
+            return hit(pageIndex);
+        }
+
+        int evictedPage;
+
+        if (list == B1) {
+            target = Math.min(numberOfFrames, target + Math.max(sizes[B2] / sizes[B1], 1));
+            evictedPage = replace(false);
+            moveToMostRecent(node, T2);
+            return fault(pageIndex, evictedPage);
+        }
+
+        if (list == B2) {
+            target = Math.max(0, target - Math.max(sizes[B1] / sizes[B2], 1));
+            evictedPage = replace(true);
+            moveToMostRecent(node, T2);
+            return fault(pageIndex, evictedPage);
+        }
+
+        // Página fora do cache e do histórico
+        int firstLevel = sizes[T1] + sizes[B1];
+        int total = firstLevel + sizes[T2] + sizes[B2];
+        evictedPage = MISS;
+
+        if (firstLevel == numberOfFrames) {
+            if (sizes[T1] < numberOfFrames) {
+                discardLeastRecent(B1);
+                evictedPage = replace(false);
+            } else {
+                // B1 vazio: o LRU de T1 sai sem deixar fantasma
+                evictedPage = nodePage[prev[sentinel + T1]];
+                discardLeastRecent(T1);
+            }
+        } else if (total >= numberOfFrames) {
+            if (total == 2 * numberOfFrames) {
+                discardLeastRecent(B2);
+            }
+            evictedPage = replace(false);
+        }
+
+        node = freeNode;
+        freeNode = next[node];
+        nodePage[node] = pageIndex;
+        pageToNode[pageIndex] = node;
+        link(node, T1);
+
+        return fault(pageIndex, evictedPage);
+    }
+
+    @Override
+    protected boolean isResident(int pageIndex) {
+        int node = pageToNode[pageIndex];
+        return node != ABSENT && nodeList[node] <= T2;
+    }
+
+    /**
+     * Alvo atual p do tamanho de T1.
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    // Despeja o LRU de T1 ou de T2 para o respectivo histórico, conforme p
+    private int replace(boolean requestInB2) {
+        if (sizes[T1] + sizes[T2] < numberOfFrames) {
+            return MISS;
+        }
+
+        int t1 = sizes[T1];
+        int from = t1 > 0 && (t1 > target || (requestInB2 && t1 == target)) ? T1 : T2;
+        int node = prev[sentinel + from];
+
+        moveToMostRecent(node, from == T1 ? B1 : B2);
+        return nodePage[node];
+    }
+
+    private void discardLeastRecent(int list) {
+        int node = prev[sentinel + list];
+
+        unlink(node);
+        pageToNode[nodePage[node]] = ABSENT;
+        next[node] = freeNode;
+        freeNode = node;
+    }
+
+    private void moveToMostRecent(int node, int list) {
+        unlink(node);
+        link(node, list);
+    }
+
+    private void unlink(int node) {
+        int before = prev[node];
+        int after = next[node];
+        next[before] = after;
+        prev[after] = before;
+        sizes[nodeList[node]]--;
+    }
+
+    private void link(int node, int list) {
+        int head = sentinel + list;
+        int first = next[head];
+        prev[node] = head;
+        next[node] = first;
+        prev[first] = node;
+        next[head] = node;
+        nodeList[node] = list;
+        sizes[list]++;
+    }
+}
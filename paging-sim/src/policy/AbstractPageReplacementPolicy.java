@@ -0,0 +1,208 @@
+package policy;
+
+import exception.InvalidConfigurationException;
+import model.SimulationMetrics;
+import model.SimulationResult;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.IntBuffer;
+import java.util.BitSet;
+
+/**
+ * Base das políticas com tabelas primitivas indexadas por página.
+ * Centraliza a contagem de page faults, o registro das páginas já carregadas,
+ * a cronometragem, as métricas e a montagem do SimulationResult. As
+ * subclasses implementam access() e informam cada resultado por meio de hit()
+ * e fault().
+ */
+public abstract class AbstractPageReplacementPolicy implements PageReplacementPolicy {
+
+    protected static final int ABSENT = -1;
+
+    protected final int numberOfPages;
+    protected int numberOfFrames;
+    protected int pageFaults;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final BitSet referencedPages; // Páginas que já foram carregadas
+    private long startTime;
+    private long startAllocatedBytes;
+    private long hits;
+    private long evictions;
+    private int residentPages;
+    private int peakResidentPages;
+    private long residentPagesSum; // Soma do conjunto residente após cada requisição
+    private AccessEventBuffer events; // null sem sink
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (dimensiona as
+     *                      tabelas por página); 0 deriva o tamanho da sequência
+     *                      no modo em lote
+     */
+    protected AbstractPageReplacementPolicy(int numberOfPages) {
+        this.numberOfPages = numberOfPages;
+        this.referencedPages = new BitSet(numberOfPages);
+    }
+
+    @Override
+    public SimulationResult simulate(IntBuffer requests, int numberOfFrames) {
+        begin(numberOfFrames, PageTables.pageCount(requests, numberOfPages));
+
+        for (int i = requests.position(); i < requests.limit(); i++) {
+            access(requests.get(i));
+        }
+
+        return finish();
+    }
+
+    @Override
+    public void begin(int numberOfFrames) {
+        if (numberOfPages <= 0) {
+            throw new InvalidConfigurationException(
+                    "Número de páginas deve ser informado para a simulação incremental (" + getPolicyName() + ")");
+        }
+
+        begin(numberOfFrames, numberOfPages);
+    }
+
+    @Override
+    public void setEventSink(AccessEventSink sink) {
+        events = sink == null ? null : new AccessEventBuffer(sink, AccessEventBuffer.DEFAULT_CAPACITY);
+    }
+
+    protected void begin(int numberOfFrames, int pageCount) {
+        this.numberOfFrames = numberOfFrames;
+        allocate(numberOfFrames, pageCount);
+        reset();
+
+        if (events != null) {
+            events.begin(getPolicyName(), numberOfFrames);
+        }
+
+        startAllocatedBytes = allocatedBytes();
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Dimensiona as tabelas para a quantidade de frames e de páginas.
+     */
+    protected abstract void allocate(int numberOfFrames, int pageCount);
+
+    protected abstract boolean isResident(int pageIndex);
+
+    @Override
+    public void reset() {
+        pageFaults = 0;
+        hits = 0;
+        evictions = 0;
+        residentPages = 0;
+        peakResidentPages = 0;
+        residentPagesSum = 0;
+        referencedPages.clear();
+    }
+
+    protected final int hit(int pageIndex) {
+        if (events != null) {
+            events.add(hits + pageFaults, pageIndex, HIT);
+        }
+
+        hits++;
+        residentPagesSum += residentPages;
+        return HIT;
+    }
+
+    /**
+     * Registra um page fault da página informada.
+     *
+     * @param evictedPage página despejada ou MISS quando havia frame livre
+     */
+    protected final int fault(int pageIndex, int evictedPage) {
+        if (events != null) {
+            events.add(hits + pageFaults, pageIndex, evictedPage);
+        }
+
+        pageFaults++;
+        referencedPages.set(pageIndex);
+
+        if (evictedPage == MISS) {
+            if (++residentPages > peakResidentPages) {
+                peakResidentPages = residentPages;
+            }
+        } else {
+            evictions++;
+        }
+
+        residentPagesSum += residentPages;
+        return evictedPage;
+    }
+
+    /**
+     * Registra a saída de uma página residente sem substituição, nas
+     * políticas de alocação variável.
+     */
+    protected final void release(int pageIndex) {
+        if (events != null) {
+            events.add(hits + pageFaults, pageIndex, AccessEventBuffer.RELEASE);
+        }
+
+        residentPages--;
+        evictions++;
+    }
+
+    @Override
+    public SimulationResult finish() {
+        long elapsedNanos = System.nanoTime() - startTime;
+        long endAllocatedBytes = allocatedBytes();
+        long executionTimeSeconds = Math.round(elapsedNanos / 1_000_000_000.0);
+
+        long allocated = startAllocatedBytes == SimulationMetrics.UNSUPPORTED
+                ? SimulationMetrics.UNSUPPORTED
+                : endAllocatedBytes - startAllocatedBytes;
+        long requests = hits + pageFaults;
+        SimulationMetrics metrics = new SimulationMetrics(elapsedNanos, hits, pageFaults, evictions,
+                allocated, requests > 0 ? (double) residentPagesSum / requests : 0.0, peakResidentPages,
+                getWriteBacks());
+
+        if (events != null) {
+            events.end();
+        }
+
+        return new SimulationResult(getPolicyName(), executionTimeSeconds, pageFaults,
+                calculateSwapState(), metrics);
+    }
+
+    /**
+     * Despejos de páginas modificadas na última simulação; as políticas que
+     * não acompanham o bit de modificação não informam o valor.
+     */
+    public long getWriteBacks() {
+        return SimulationMetrics.UNSUPPORTED;
+    }
+
+    // Bytes já alocados pela thread atual (extensão da HotSpot), se disponível
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getCurrentThreadAllocatedBytes();
+            }
+        }
+
+        return SimulationMetrics.UNSUPPORTED;
+    }
+
+    // Swap = páginas já carregadas alguma vez que não estão mais residentes
+    private BitSet calculateSwapState() {
+        BitSet swapState = (BitSet) referencedPages.clone();
+
+        for (int page = swapState.nextSetBit(0); page >= 0; page = swapState.nextSetBit(page + 1)) {
+            if (isResident(page)) {
+                swapState.clear(page);
+            }
+        }
+
+        return swapState;
+    }
+}
@@ -0,0 +1,87 @@
+package policy;
+
+/**
+ * Lote de eventos de acesso em vetores primitivos pré-alocados: cada evento
+ * guarda o índice da requisição, a página e o resultado, que é o mesmo
+ * devolvido por access() (HIT, MISS ou a página despejada) ou RELEASE.
+ * Quando os vetores enchem, o lote é entregue ao sink e os mesmos vetores
+ * voltam a ser preenchidos, sem alocação por evento.
+ */
+public final class AccessEventBuffer {
+
+    // Resultado de um evento: a página saiu do conjunto residente sem
+    // substituição (políticas de alocação variável). Fica fora da faixa dos
+    // retornos de access() (HIT, MISS e PENDING)
+    public static final int RELEASE = -4;
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final AccessEventSink sink;
+    private final long[] requests;
+    private final int[] pages;
+    private final int[] results;
+    private int size;
+
+    AccessEventBuffer(AccessEventSink sink, int capacity) {
+        this.sink = sink;
+        this.requests = new long[capacity];
+        this.pages = new int[capacity];
+        this.results = new int[capacity];
+    }
+
+    void begin(String policyName, int numberOfFrames) {
+        size = 0;
+        sink.begin(policyName, numberOfFrames);
+    }
+
+    void add(long requestIndex, int pageIndex, int result) {
+        requests[size] = requestIndex;
+        pages[size] = pageIndex;
+        results[size] = result;
+
+        if (++size == results.length) {
+            flush();
+        }
+    }
+
+    void end() {
+        flush();
+        sink.end();
+    }
+
+    private void flush() {
+        if (size > 0) {
+            sink.accept(this);
+            size = 0;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Índice da requisição na sequência (a partir de 0).
+     */
+    public long requestIndex(int event) {
+        return requests[event];
+    }
+
+    public int page(int event) {
+        return pages[event];
+    }
+
+    /**
+     * HIT, MISS, página despejada (>= 0) ou RELEASE.
+     */
+    public int result(int event) {
+        return results[event];
+    }
+
+    /**
+     * Verdadeiro para page faults (com ou sem despejo).
+     */
+    public boolean isFault(int event) {
+        return results[event] == PageReplacementPolicy.MISS || results[event] >= 0;
+    }
+}
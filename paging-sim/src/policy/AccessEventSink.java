@@ -0,0 +1,25 @@
+package policy;
+
+/**
+ * Destino dos eventos de acesso de uma política (ver
+ * PageReplacementPolicy.setEventSink). Os eventos chegam em lotes, na ordem
+ * das requisições, entre begin() e end() de cada simulação.
+ */
+public interface AccessEventSink {
+
+    /**
+     * Início de uma simulação (chamado em begin() da política).
+     */
+    void begin(String policyName, int numberOfFrames);
+
+    /**
+     * Lote de eventos; o buffer é reaproveitado e só é válido durante a
+     * chamada.
+     */
+    void accept(AccessEventBuffer events);
+
+    /**
+     * Fim da simulação (chamado em finish(), após o último lote).
+     */
+    void end();
+}
@@ -0,0 +1,132 @@
+package policy;
+
+import java.util.Arrays;
+
+/**
+ * Política CLOCK (segunda chance) de substituição de páginas.
+ * Os frames formam um anel percorrido por um ponteiro (hand): a página com
+ * bit de referência ligado perde o bit e é poupada; a primeira com o bit
+ * desligado é despejada. Aproxima o LRU sem reordenar nada nos hits, que
+ * apenas ligam o bit.
+ * Os bits de referência ficam empacotados em um long[] (um bit por slot), e
+ * o ponteiro avança uma palavra de 64 frames por vez: cada bit ligado é
+ * desligado uma única vez, então o custo por page fault é O(1) amortizado.
+ */
+public class ClockPolicy extends AbstractPageReplacementPolicy {
+
+    protected int[] frames; // frames[slot] = página carregada
+    protected int[] pageToFrame; // pageToFrame[página] = slot (ABSENT se ausente)
+    protected long[] referenced; // Bit de referência por slot
+    protected int hand; // Próximo slot a examinar
+    private int usedFrames;
+    private long lastWordMask; // Slots válidos da última palavra
+
+    public ClockPolicy() {
+        this(0);
+    }
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (dimensiona o índice
+     *                      página → frame); 0 deriva o tamanho da sequência
+     */
+    public ClockPolicy(int numberOfPages) {
+        super(numberOfPages);
+        this.frames = new int[0];
+        this.referenced = new long[0];
+        this.pageToFrame = new int[numberOfPages];
+    }
+
+    @Override
+    public String getPolicyName() {
+        return "CLOCK";
+    }
+
+    @Override
+    protected void allocate(int numberOfFrames, int pageCount) {
+        if (frames.length != numberOfFrames) {
+            frames = new int[numberOfFrames];
+            referenced = new long[(numberOfFrames + 63) >>> 6];
+        }
+
+        if (pageToFrame.length < pageCount) {
+            pageToFrame = new int[pageCount];
+        }
+
+        lastWordMask = (numberOfFrames & 63) == 0 ? -1L : (1L << numberOfFrames) - 1;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(pageToFrame, ABSENT);
+        Arrays.fill(referenced, 0L);
+        hand = 0;
+        usedFrames = 0;
+    }
+
+    @Override
+    public int access(int pageIndex) {
+        int slot = pageToFrame[pageIndex];
+
+        if (slot != ABSENT) {
+            referenced[slot >>> 6] |= 1L << slot;
+            return hit(pageIndex);
+        }
+
+        int evictedPage = MISS;
+
+        if (usedFrames < numberOfFrames) {
+            slot = usedFrames++;
+        } else {
+            slot = selectVictim();
+            evictedPage = frames[slot];
+            pageToFrame[evictedPage] = ABSENT;
+        }
+
+        frames[slot] = pageIndex;
+        pageToFrame[pageIndex] = slot;
+        referenced[slot >>> 6] |= 1L << slot;
+
+        return fault(pageIndex, evictedPage);
+    }
+
+    @Override
+    protected boolean isResident(int pageIndex) {
+        return pageToFrame[pageIndex] != ABSENT;
+    }
+
+    /**
+     * Avança o ponteiro até o primeiro slot sem bit de referência, desligando
+     * os bits dos slots poupados, e retorna esse slot.
+     */
+    protected int selectVictim() {
+        int slot = hand;
+
+        while (true) {
+            int word = slot >>> 6;
+            long candidates = ~referenced[word] & (-1L << slot) & validSlots(word);
+
+            if (candidates != 0) {
+                int victim = (word << 6) + Long.numberOfTrailingZeros(candidates);
+                referenced[word] &= ~((-1L << slot) & ~(-1L << victim));
+                advanceHand(victim);
+                return victim;
+            }
+
+            // Todos os slots restantes da palavra ganham a segunda chance
+            referenced[word] &= ~(-1L << slot);
+            slot = (word + 1) << 6;
+            if (slot >= numberOfFrames) {
+                slot = 0;
+            }
+        }
+    }
+
+    protected final long validSlots(int word) {
+        return word == referenced.length - 1 ? lastWordMask : -1L;
+    }
+
+    protected final void advanceHand(int victim) {
+        hand = victim + 1 == numberOfFrames ? 0 : victim + 1;
+    }
+}
@@ -0,0 +1,176 @@
+package policy;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Política CLOCK aprimorada (bits de referência e de modificação).
+ * A vítima é procurada por classes (R, M): primeiro uma volta completa em
+ * busca de (0, 0) sem alterar bits; depois uma volta em busca de (0, 1),
+ * desligando o bit de referência dos slots percorridos; as duas etapas se
+ * repetem até encontrar a vítima. Páginas limpas são preferidas porque o
+ * despejo de uma página modificada exige escrevê-la no swap.
+ * O trace não distingue leituras de escritas: cada requisição é tratada como
+ * escrita com a probabilidade writeRatio, sorteada com semente explícita
+ * para saídas reproduzíveis. Os bits M ficam empacotados como os bits R e a
+ * busca também avança uma palavra de 64 frames por vez; um contador de slots
+ * (0, 0) evita a volta completa da primeira etapa quando não há nenhum.
+ */
+public class EnhancedClockPolicy extends ClockPolicy {
+
+    public static final double DEFAULT_WRITE_RATIO = 0.3;
+
+    private final double writeRatio;
+    private final long seed;
+
+    private long[] modified; // Bit de modificação por slot
+    private SplittableRandom random;
+    private long writeBacks; // Despejos de páginas modificadas
+    private int cleanCandidates; // Slots com R = 0 e M = 0
+
+    public EnhancedClockPolicy() {
+        this(0, DEFAULT_WRITE_RATIO, 0L);
+    }
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais; 0 deriva o tamanho
+     *                      da sequência
+     * @param writeRatio    fração das requisições tratadas como escrita, em
+     *                      [0, 1]
+     * @param seed          semente do sorteio das escritas, reaplicada a cada
+     *                      simulação
+     */
+    public EnhancedClockPolicy(int numberOfPages, double writeRatio, long seed) {
+        super(numberOfPages);
+        this.writeRatio = writeRatio;
+        this.seed = seed;
+        this.modified = new long[0];
+    }
+
+    @Override
+    public String getPolicyName() {
+        return "ECLOCK";
+    }
+
+    @Override
+    protected void allocate(int numberOfFrames, int pageCount) {
+        super.allocate(numberOfFrames, pageCount);
+
+        if (modified.length != referenced.length) {
+            modified = new long[referenced.length];
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(modified, 0L);
+        random = new SplittableRandom(seed);
+        writeBacks = 0;
+        cleanCandidates = 0;
+    }
+
+    @Override
+    public int access(int pageIndex) {
+        boolean write = random.nextDouble() < writeRatio;
+        int slot = pageToFrame[pageIndex];
+
+        if (slot != ABSENT && ((referenced[slot >>> 6] | modified[slot >>> 6]) & (1L << slot)) == 0) {
+            cleanCandidates--;
+        }
+
+        int result = super.access(pageIndex);
+
+        if (write) {
+            slot = pageToFrame[pageIndex];
+            modified[slot >>> 6] |= 1L << slot;
+        }
+
+        return result;
+    }
+
+    /**
+     * Quantidade de páginas modificadas despejadas (escritas no swap) na
+     * última simulação.
+     */
+    @Override
+    public long getWriteBacks() {
+        return writeBacks;
+    }
+
+    @Override
+    protected int selectVictim() {
+        while (true) {
+            int victim = cleanCandidates > 0 ? scan(false) : ABSENT;
+
+            if (victim == ABSENT) {
+                victim = scan(true);
+            }
+
+            if (victim != ABSENT) {
+                long bit = 1L << victim;
+
+                if ((modified[victim >>> 6] & bit) != 0) {
+                    modified[victim >>> 6] &= ~bit;
+                    writeBacks++;
+                } else {
+                    cleanCandidates--;
+                }
+
+                advanceHand(victim);
+                return victim;
+            }
+        }
+    }
+
+    /**
+     * Uma volta a partir do ponteiro em busca de um slot sem referência, limpo
+     * (dirty = false) ou modificado (dirty = true). Na busca por modificados
+     * os bits de referência dos slots percorridos são desligados.
+     *
+     * @return slot encontrado ou ABSENT
+     */
+    private int scan(boolean dirty) {
+        int words = referenced.length;
+        int slot = hand;
+
+        // words + 1 passos: a palavra do ponteiro é revisitada para os slots
+        // anteriores a ele
+        for (int step = 0; step <= words; step++) {
+            int word = slot >>> 6;
+            long range = (-1L << slot) & validSlots(word);
+
+            if (step == words) {
+                range &= ~(-1L << hand);
+            }
+
+            long candidates = ~referenced[word] & (dirty ? modified[word] : ~modified[word]) & range;
+
+            if (candidates != 0) {
+                int victim = (word << 6) + Long.numberOfTrailingZeros(candidates);
+
+                if (dirty) {
+                    clearReferenced(word, range & ~(-1L << victim));
+                }
+
+                return victim;
+            }
+
+            if (dirty) {
+                clearReferenced(word, range);
+            }
+
+            slot = (word + 1) << 6;
+            if (slot >= numberOfFrames) {
+                slot = 0;
+            }
+        }
+
+        return ABSENT;
+    }
+
+    private void clearReferenced(int word, long mask) {
+        cleanCandidates += Long.bitCount(mask & referenced[word] & ~modified[word]);
+        referenced[word] &= ~mask;
+    }
+}
@@ -1,65 +1,75 @@
 package policy;
 
-import model.PageSequence;
-import model.SimulationResult;
-import java.util.*;
+import java.util.BitSet;
 
 /**
  * Política FIFO (First-In, First-Out) de substituição de páginas.
  * Remove a página que está há mais tempo na memória (primeira da fila).
- * Mantém sincronização entre frameQueue e pagesInMemory para consistência.
+ * A fila é um buffer circular de int[] e a residência é um bitset indexado
+ * pelo número da página; o estado do swap é derivado dos bitsets ao final,
+ * sem alocações no laço de requisições.
  */
-public class FIFOPolicy implements PageReplacementPolicy {
+public class FIFOPolicy extends AbstractPageReplacementPolicy {
 
-    private Queue<Integer> frameQueue; // Ordem de chegada dos frames
-    private Set<Integer> pagesInMemory; // Lookup rápido O(1)
-    private Set<Integer> swapState;
-    private int pageFaults;
+    private int[] frameQueue; // Buffer circular com a ordem de chegada
+    private int queueHead; // Posição da página mais antiga
+    private int usedFrames;
+    private final BitSet pagesInMemory; // Residência por número de página
 
     public FIFOPolicy() {
-        reset();
+        this(0);
+    }
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (dimensiona o
+     *                      bitset de residência)
+     */
+    public FIFOPolicy(int numberOfPages) {
+        super(numberOfPages);
+        this.frameQueue = new int[0];
+        this.pagesInMemory = new BitSet(numberOfPages);
     }
 
     @Override
-    public void reset() {
-        frameQueue = new LinkedList<>();
-        pagesInMemory = new HashSet<>();
-        swapState = new TreeSet<>();
-        pageFaults = 0;
+    protected void allocate(int numberOfFrames, int pageCount) {
+        if (frameQueue.length != numberOfFrames) {
+            frameQueue = new int[numberOfFrames];
+        }
     }
 
     @Override
-    public SimulationResult simulate(PageSequence sequence, int numberOfFrames) {
-        reset();
-        long startTime = System.nanoTime();
+    public void reset() {
+        super.reset();
+        queueHead = 0;
+        usedFrames = 0;
+        pagesInMemory.clear();
+    }
 
-        List<Integer> requests = sequence.getRequests();
+    @Override
+    public int access(int pageIndex) {
+        if (pagesInMemory.get(pageIndex)) {
+            return hit(pageIndex);
+        }
 
-        for (int pageIndex : requests) {
-            if (!pagesInMemory.contains(pageIndex)) {
-                pageFaults++;
+        pagesInMemory.set(pageIndex);
 
-                swapState.remove(pageIndex);
+        if (usedFrames < numberOfFrames) {
+            frameQueue[usedFrames++] = pageIndex;
+            return fault(pageIndex, MISS);
+        }
 
-                if (pagesInMemory.size() < numberOfFrames) {
-                    pagesInMemory.add(pageIndex);
-                    frameQueue.add(pageIndex);
-                } else {
-                    int pageToReplace = frameQueue.poll();
-                    pagesInMemory.remove(pageToReplace);
-                    swapState.add(pageToReplace);
+        int pageToReplace = frameQueue[queueHead];
+        pagesInMemory.clear(pageToReplace);
 
-                    pagesInMemory.add(pageIndex);
-                    frameQueue.add(pageIndex);
-                }
-            }
-        }
+        frameQueue[queueHead] = pageIndex;
+        queueHead = queueHead + 1 == numberOfFrames ? 0 : queueHead + 1;
 
-        long endTime = System.nanoTime();
-        long executionTimeSeconds = Math.round((endTime - startTime) / 1_000_000_000.0);
+        return fault(pageIndex, pageToReplace);
+    }
 
-        return new SimulationResult(getPolicyName(), executionTimeSeconds, pageFaults,
-                new HashSet<>(swapState));
+    @Override
+    protected boolean isResident(int pageIndex) {
+        return pagesInMemory.get(pageIndex);
     }
 
     @Override
@@ -0,0 +1,102 @@
+package policy;
+
+import java.util.Arrays;
+
+/**
+ * Sketch count-min de contadores de 4 bits usado como filtro de admissão do
+ * W-TinyLFU. Estima a frequência recente de cada página com memória
+ * proporcional à quantidade de frames, e não à de páginas: 16 contadores por
+ * long, quatro contadores por página escolhidos por hashing duplo.
+ * Após 10 × frames incrementos todos os contadores são divididos por 2, de
+ * modo que as estimativas refletem o passado recente.
+ */
+final class FrequencySketch {
+
+    private static final int MAX_COUNT = 15;
+    private static final long HALF_MASK = 0x7777_7777_7777_7777L;
+    private static final long ONE_MASK = 0x1111_1111_1111_1111L;
+
+    private long[] table = new long[0];
+    private int counterMask;
+    private int sampleSize;
+    private int additions;
+
+    /**
+     * Dimensiona e zera o sketch para a quantidade de frames.
+     */
+    void reset(int numberOfFrames) {
+        int words = Integer.highestOneBit(Math.max(1, numberOfFrames - 1) << 1);
+
+        if (table.length != words) {
+            table = new long[words];
+        } else {
+            Arrays.fill(table, 0L);
+        }
+
+        counterMask = (words << 4) - 1;
+        sampleSize = 10 * Math.max(1, numberOfFrames);
+        additions = 0;
+    }
+
+    /**
+     * Frequência estimada: o menor dos quatro contadores da página.
+     */
+    int frequency(int pageIndex) {
+        long hash = hash(pageIndex);
+        int first = (int) hash;
+        int step = (int) (hash >>> 32) | 1;
+        int frequency = MAX_COUNT;
+
+        for (int i = 0; i < 4; i++) {
+            frequency = Math.min(frequency, counter(first + i * step));
+        }
+
+        return frequency;
+    }
+
+    void increment(int pageIndex) {
+        long hash = hash(pageIndex);
+        int first = (int) hash;
+        int step = (int) (hash >>> 32) | 1;
+        boolean added = false;
+
+        for (int i = 0; i < 4; i++) {
+            int index = (first + i * step) & counterMask;
+            int shift = (index & 15) << 2;
+
+            if (((table[index >>> 4] >>> shift) & MAX_COUNT) != MAX_COUNT) {
+                table[index >>> 4] += 1L << shift;
+                added = true;
+            }
+        }
+
+        if (added && ++additions == sampleSize) {
+            halve();
+        }
+    }
+
+    // Divide todos os contadores por 2; a contagem desconta os restos perdidos
+    private void halve() {
+        int odd = 0;
+
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & HALF_MASK;
+        }
+
+        additions = (additions - (odd >>> 2)) >>> 1;
+    }
+
+    private int counter(int index) {
+        index &= counterMask;
+        return (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & MAX_COUNT);
+    }
+
+    // Finalizador do SplitMix64: 32 bits para o primeiro índice e 32 para o passo
+    private static long hash(int pageIndex) {
+        long z = pageIndex * 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,110 @@
+package policy;
+
+import java.util.Arrays;
+
+/**
+ * Heap binário de máximo indexado pelos slots (frames) da memória física.
+ * Cada slot possui uma chave long; empates são decididos pelo maior índice
+ * de slot, reproduzindo a varredura com ">=" da implementação original do MIN.
+ * Todas as operações são O(log k) e não alocam memória após a construção.
+ */
+final class IndexedMaxHeap {
+
+    private final int[] heap; // heap[posição] = slot
+    private final int[] position; // position[slot] = posição no heap (-1 se ausente)
+    private final long[] keys; // keys[slot] = chave (próximo uso)
+    private int size;
+
+    IndexedMaxHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new long[capacity];
+        clear();
+    }
+
+    void clear() {
+        Arrays.fill(position, -1);
+        size = 0;
+    }
+
+    int top() {
+        return heap[0];
+    }
+
+    /**
+     * Insere o slot com a chave informada ou atualiza sua chave caso já esteja
+     * no heap.
+     */
+    void set(int slot, long key) {
+        int pos = position[slot];
+
+        if (pos < 0) {
+            keys[slot] = key;
+            pos = size++;
+            heap[pos] = slot;
+            position[slot] = pos;
+            siftUp(pos);
+            return;
+        }
+
+        long oldKey = keys[slot];
+        keys[slot] = key;
+
+        if (key > oldKey) {
+            siftUp(pos);
+        } else if (key < oldKey) {
+            siftDown(pos);
+        }
+    }
+
+    private boolean isAbove(int a, int b) {
+        return keys[a] > keys[b] || (keys[a] == keys[b] && a > b);
+    }
+
+    private void siftUp(int pos) {
+        int slot = heap[pos];
+
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parent = heap[parentPos];
+
+            if (!isAbove(slot, parent)) {
+                break;
+            }
+
+            heap[pos] = parent;
+            position[parent] = pos;
+            pos = parentPos;
+        }
+
+        heap[pos] = slot;
+        position[slot] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int slot = heap[pos];
+        int half = size >>> 1;
+
+        while (pos < half) {
+            int childPos = 2 * pos + 1;
+            int child = heap[childPos];
+            int rightPos = childPos + 1;
+
+            if (rightPos < size && isAbove(heap[rightPos], child)) {
+                childPos = rightPos;
+                child = heap[childPos];
+            }
+
+            if (!isAbove(child, slot)) {
+                break;
+            }
+
+            heap[pos] = child;
+            position[child] = pos;
+            pos = childPos;
+        }
+
+        heap[pos] = slot;
+        position[slot] = pos;
+    }
+}
@@ -0,0 +1,284 @@
+package policy;
+
+import java.util.Arrays;
+
+/**
+ * Política LFU (Least Frequently Used) de substituição de páginas.
+ * Remove a página residente com menos acessos desde que foi carregada; entre
+ * páginas com a mesma frequência, remove a usada há mais tempo, o que torna
+ * o resultado determinístico.
+ * As frequências formam uma lista de buckets em ordem crescente e cada bucket
+ * guarda suas páginas em uma lista ordenada por recência, todas intrusivas
+ * sobre vetores primitivos: hits, misses e despejos custam O(1).
+ * O envelhecimento opcional divide todas as frequências por 2 (mínimo 1) a
+ * cada agingInterval requisições, para que páginas muito usadas no passado
+ * não fiquem residentes para sempre; buckets que passam a ter a mesma
+ * frequência são intercalados pela ordem do último acesso, em O(frames).
+ */
+public class LFUPolicy extends AbstractPageReplacementPolicy {
+
+    private final int agingInterval; // 0 desativa o envelhecimento
+
+    private int[] slotPage; // slotPage[slot] = página carregada
+    private int[] slotBucket; // slotBucket[slot] = bucket da frequência da página
+    private long[] slotTime; // Instante do último acesso (desempate no envelhecimento)
+    private int[] prev; // Listas de páginas: nós 0..frames-1 são slots, os demais sentinelas
+    private int[] next;
+    private int[] pageToSlot; // pageToSlot[página] = slot (ABSENT se ausente)
+
+    private int[] frequency; // frequency[bucket]
+    private int[] bucketPrev; // Lista de buckets (o último índice é o sentinela)
+    private int[] bucketNext; // também encadeia os buckets livres
+    private int bucketSentinel;
+    private int freeBucket;
+
+    private int usedFrames;
+    private long time;
+    private int untilAging;
+
+    public LFUPolicy() {
+        this(0, 0);
+    }
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (dimensiona o índice
+     *                      página → slot); 0 deriva o tamanho da sequência
+     * @param agingInterval requisições entre dois envelhecimentos; 0 desativa
+     */
+    public LFUPolicy(int numberOfPages, int agingInterval) {
+        super(numberOfPages);
+        this.agingInterval = agingInterval;
+        // Tabelas de 0 frames (um bucket), como as dimensiona allocate()
+        this.slotPage = new int[0];
+        this.slotBucket = new int[0];
+        this.slotTime = new long[0];
+        this.prev = new int[1];
+        this.next = new int[1];
+        this.frequency = new int[1];
+        this.bucketPrev = new int[2];
+        this.bucketNext = new int[2];
+        this.bucketSentinel = 1;
+        this.pageToSlot = new int[numberOfPages];
+    }
+
+    @Override
+    public String getPolicyName() {
+        return "LFU";
+    }
+
+    @Override
+    protected void allocate(int numberOfFrames, int pageCount) {
+        // Uma promoção cria o bucket seguinte antes de liberar o atual:
+        // até frames + 1 buckets em uso
+        int buckets = numberOfFrames + 1;
+
+        if (slotPage.length != numberOfFrames) {
+            slotPage = new int[numberOfFrames];
+            slotBucket = new int[numberOfFrames];
+            slotTime = new long[numberOfFrames];
+            prev = new int[numberOfFrames + buckets];
+            next = new int[numberOfFrames + buckets];
+            frequency = new int[buckets];
+            bucketPrev = new int[buckets + 1];
+            bucketNext = new int[buckets + 1];
+        }
+
+        if (pageToSlot.length < pageCount) {
+            pageToSlot = new int[pageCount];
+        }
+
+        bucketSentinel = buckets;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(pageToSlot, ABSENT);
+        usedFrames = 0;
+        time = 0;
+        untilAging = agingInterval;
+
+        bucketPrev[bucketSentinel] = bucketSentinel;
+        bucketNext[bucketSentinel] = bucketSentinel;
+        for (int bucket = 0; bucket < bucketSentinel; bucket++) {
+            bucketNext[bucket] = bucket + 1 < bucketSentinel ? bucket + 1 : ABSENT;
+        }
+        freeBucket = 0;
+    }
+
+    @Override
+    public int access(int pageIndex) {
+        int slot = pageToSlot[pageIndex];
+        time++;
+
+        int result;
+
+        if (slot != ABSENT) {
+            promote(slot);
+            slotTime[slot] = time;
+            result = hit(pageIndex);
+        } else {
+            int evictedPage = MISS;
+
+            if (usedFrames < numberOfFrames) {
+                slot = usedFrames++;
+            } else {
+                // Menos recente do bucket de menor frequência
+                slot = prev[listHead(bucketNext[bucketSentinel])];
+                removeFromBucket(slot);
+                evictedPage = slotPage[slot];
+                pageToSlot[evictedPage] = ABSENT;
+            }
+
+            int first = bucketNext[bucketSentinel];
+            if (first == bucketSentinel || frequency[first] != 1) {
+                first = insertBucketAfter(bucketSentinel, 1);
+            }
+
+            slotPage[slot] = pageIndex;
+            slotTime[slot] = time;
+            pageToSlot[pageIndex] = slot;
+            linkMostRecent(slot, first);
+
+            result = fault(pageIndex, evictedPage);
+        }
+
+        if (agingInterval > 0 && --untilAging == 0) {
+            age();
+            untilAging = agingInterval;
+        }
+
+        return result;
+    }
+
+    @Override
+    protected boolean isResident(int pageIndex) {
+        return pageToSlot[pageIndex] != ABSENT;
+    }
+
+    // Move a página para o bucket da frequência seguinte, criando-o se preciso
+    private void promote(int slot) {
+        int bucket = slotBucket[slot];
+        int nextFrequency = frequency[bucket] + 1;
+        int target = bucketNext[bucket];
+
+        if (target == bucketSentinel || frequency[target] != nextFrequency) {
+            target = insertBucketAfter(bucket, nextFrequency);
+        }
+
+        removeFromBucket(slot);
+        linkMostRecent(slot, target);
+    }
+
+    // Divide as frequências por 2, intercalando buckets que passam a coincidir
+    private void age() {
+        int kept = ABSENT;
+
+        for (int bucket = bucketNext[bucketSentinel]; bucket != bucketSentinel;) {
+            int following = bucketNext[bucket];
+            int halved = Math.max(1, frequency[bucket] >> 1);
+
+            if (kept != ABSENT && frequency[kept] == halved) {
+                merge(bucket, kept);
+                releaseBucket(bucket);
+            } else {
+                frequency[bucket] = halved;
+                kept = bucket;
+            }
+
+            bucket = following;
+        }
+    }
+
+    // Intercala as páginas de source em target, do acesso mais recente ao mais antigo
+    private void merge(int source, int target) {
+        int sourceHead = listHead(source);
+        int targetHead = listHead(target);
+        int a = next[targetHead];
+        int b = next[sourceHead];
+
+        prev[targetHead] = targetHead;
+        next[targetHead] = targetHead;
+
+        while (a != targetHead || b != sourceHead) {
+            int slot;
+
+            if (b == sourceHead || (a != targetHead && slotTime[a] > slotTime[b])) {
+                slot = a;
+                a = next[a];
+            } else {
+                slot = b;
+                b = next[b];
+            }
+
+            linkLeastRecent(slot, target);
+        }
+
+        prev[sourceHead] = sourceHead;
+        next[sourceHead] = sourceHead;
+    }
+
+    private int insertBucketAfter(int bucket, int bucketFrequency) {
+        int created = freeBucket;
+        freeBucket = bucketNext[created];
+
+        int after = bucketNext[bucket];
+        bucketPrev[created] = bucket;
+        bucketNext[created] = after;
+        bucketPrev[after] = created;
+        bucketNext[bucket] = created;
+
+        frequency[created] = bucketFrequency;
+        int head = listHead(created);
+        prev[head] = head;
+        next[head] = head;
+
+        return created;
+    }
+
+    private void releaseBucket(int bucket) {
+        int before = bucketPrev[bucket];
+        int after = bucketNext[bucket];
+        bucketNext[before] = after;
+        bucketPrev[after] = before;
+
+        bucketNext[bucket] = freeBucket;
+        freeBucket = bucket;
+    }
+
+    // Retira a página do bucket e libera o bucket se ele ficar vazio
+    private void removeFromBucket(int slot) {
+        int before = prev[slot];
+        int after = next[slot];
+        next[before] = after;
+        prev[after] = before;
+
+        if (before == after) {
+            releaseBucket(slotBucket[slot]);
+        }
+    }
+
+    private void linkMostRecent(int slot, int bucket) {
+        int head = listHead(bucket);
+        int first = next[head];
+        prev[slot] = head;
+        next[slot] = first;
+        prev[first] = slot;
+        next[head] = slot;
+        slotBucket[slot] = bucket;
+    }
+
+    private void linkLeastRecent(int slot, int bucket) {
+        int head = listHead(bucket);
+        int last = prev[head];
+        next[slot] = head;
+        prev[slot] = last;
+        next[last] = slot;
+        prev[head] = slot;
+        slotBucket[slot] = bucket;
+    }
+
+    private int listHead(int bucket) {
+        return numberOfFrames + bucket;
+    }
+}
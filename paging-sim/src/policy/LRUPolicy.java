@@ -1,112 +1,111 @@
 package policy;
 
-import model.MemoryFrame;
-import model.PageSequence;
-import model.SimulationResult;
-
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Arrays;
 
 /**
  * Política LRU (Least Recently Used) de substituição de páginas.
  * Remove a página cujo último acesso ocorreu no tempo mais distante.
- * Atualiza timestamp tanto em hits quanto em misses para refletir uso real.
+ * Atualiza a recência tanto em hits quanto em misses para refletir uso real.
+ * A ordem de recência é uma lista duplamente encadeada intrusiva sobre os
+ * vetores prev/next dos frames, e o índice página → frame é um int[]; hits e
+ * misses custam O(1) e não alocam memória.
  */
-public class LRUPolicy implements PageReplacementPolicy {
+public class LRUPolicy extends AbstractPageReplacementPolicy {
 
-    private List<MemoryFrame> frames;
-    private int pageFaultCount;
+    private int[] frames; // frames[slot] = página carregada
+    private int[] prev; // vizinho mais recente (o slot 'numberOfFrames' é o sentinela)
+    private int[] next; // vizinho menos recente
+    private int[] pageToFrame; // pageToFrame[página] = slot (ABSENT se ausente)
+    private int usedFrames;
 
     public LRUPolicy() {
-        this.frames = new ArrayList<>();
-        this.pageFaultCount = 0;
+        this(0);
     }
 
-    @Override
-    public String getPolicyName() {
-        return "LRU";
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (dimensiona o índice
+     *                      página → frame); 0 deriva o tamanho da sequência
+     */
+    public LRUPolicy(int numberOfPages) {
+        super(numberOfPages);
+        this.frames = new int[0];
+        this.prev = new int[1];
+        this.next = new int[1];
+        this.pageToFrame = new int[numberOfPages];
     }
 
     @Override
-    public void reset() {
-        frames.clear();
-        pageFaultCount = 0;
+    public String getPolicyName() {
+        return "LRU";
     }
 
     @Override
-    public SimulationResult simulate(PageSequence sequence, int numberOfFrames) {
-        reset();
-
-        long startTime = System.currentTimeMillis();
-
-        List<Integer> requests = sequence.getRequests();
-        for (int i = 0; i < requests.size(); i++) {
-            int pageIndex = requests.get(i);
-            processPageRequest(pageIndex, numberOfFrames, i);
+    protected void allocate(int numberOfFrames, int pageCount) {
+        if (frames.length != numberOfFrames) {
+            frames = new int[numberOfFrames];
+            prev = new int[numberOfFrames + 1];
+            next = new int[numberOfFrames + 1];
         }
 
-        long endTime = System.currentTimeMillis();
-        long executionTimeSeconds = Math.round((endTime - startTime) / 1000.0);
-
-        Set<Integer> swapState = calculateSwapState(sequence);
+        if (pageToFrame.length < pageCount) {
+            pageToFrame = new int[pageCount];
+        }
+    }
 
-        return new SimulationResult(getPolicyName(), executionTimeSeconds,
-                pageFaultCount, swapState);
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(pageToFrame, ABSENT);
+        prev[numberOfFrames] = numberOfFrames;
+        next[numberOfFrames] = numberOfFrames;
+        usedFrames = 0;
     }
 
-    private void processPageRequest(int pageIndex, int numberOfFrames, long currentTime) {
-        MemoryFrame existingFrame = findFrameByPage(pageIndex);
+    @Override
+    public int access(int pageIndex) {
+        int slot = pageToFrame[pageIndex];
 
-        if (existingFrame != null) {
-            existingFrame.updateAccessTime(currentTime);
-            return;
+        if (slot != ABSENT) {
+            unlink(slot);
+            linkMostRecent(slot);
+            return hit(pageIndex);
         }
 
-        pageFaultCount++;
+        int evictedPage = MISS;
 
-        if (frames.size() < numberOfFrames) {
-            frames.add(new MemoryFrame(pageIndex, currentTime));
+        if (usedFrames < numberOfFrames) {
+            slot = usedFrames++;
         } else {
-            int victimIndex = findLRUVictim();
-            frames.set(victimIndex, new MemoryFrame(pageIndex, currentTime));
-        }
-    }
-
-    private MemoryFrame findFrameByPage(int pageIndex) {
-        for (MemoryFrame frame : frames) {
-            if (frame.getPageIndex() == pageIndex) {
-                return frame;
-            }
+            slot = prev[numberOfFrames]; // menos recentemente usado
+            unlink(slot);
+            evictedPage = frames[slot];
+            pageToFrame[evictedPage] = ABSENT;
         }
-        return null;
-    }
 
-    private int findLRUVictim() {
-        int victimIndex = 0;
-        long oldestAccessTime = frames.get(0).getLastAccessTime();
+        frames[slot] = pageIndex;
+        pageToFrame[pageIndex] = slot;
+        linkMostRecent(slot);
 
-        for (int i = 1; i < frames.size(); i++) {
-            long accessTime = frames.get(i).getLastAccessTime();
-            if (accessTime < oldestAccessTime) {
-                oldestAccessTime = accessTime;
-                victimIndex = i;
-            }
-        }
-
-        return victimIndex;
+        return fault(pageIndex, evictedPage);
     }
 
-    private Set<Integer> calculateSwapState(PageSequence sequence) {
-        Set<Integer> allPages = new HashSet<>(sequence.getRequests());
+    @Override
+    protected boolean isResident(int pageIndex) {
+        return pageToFrame[pageIndex] != ABSENT;
+    }
 
-        Set<Integer> pagesInMemory = new HashSet<>();
-        for (MemoryFrame frame : frames) {
-            pagesInMemory.add(frame.getPageIndex());
-        }
+    private void unlink(int slot) {
+        int before = prev[slot];
+        int after = next[slot];
+        next[before] = after;
+        prev[after] = before;
+    }
 
-        allPages.removeAll(pagesInMemory);
-        return allPages;
+    private void linkMostRecent(int slot) {
+        int first = next[numberOfFrames];
+        prev[slot] = numberOfFrames;
+        next[slot] = first;
+        prev[first] = slot;
+        next[numberOfFrames] = slot;
     }
 }
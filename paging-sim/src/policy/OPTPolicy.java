@@ -1,28 +1,53 @@
 package policy;
 
-import model.MemoryFrame;
-import model.PageSequence;
 import model.SimulationResult;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.nio.IntBuffer;
+import java.util.Arrays;
 
 /**
  * Política MIN/OPT (Ótima) de substituição de páginas - Algoritmo de Belady.
  * Remove a página que não será utilizada pelo maior período de tempo no futuro.
  * Requer conhecimento antecipado da sequência completa (não implementável na
  * prática).
+ * O próximo uso de cada requisição é pré-calculado em uma única passagem
+ * reversa e as páginas residentes ficam em um heap de máximo indexado pelo
+ * frame, de modo que cada page fault custa O(log k).
+ * No modo incremental a sequência pode ser informada em begin(IntBuffer,
+ * int). Após begin(int), as requisições são guardadas, access() retorna
+ * PENDING e a simulação acontece em finish(), com o trace inteiro em
+ * memória; para traces maiores que a memória use WindowedOPTPolicy.
  */
-public class OPTPolicy implements PageReplacementPolicy {
-
-    private List<MemoryFrame> frames;
-    private int pageFaultCount;
+public class OPTPolicy extends AbstractPageReplacementPolicy {
+
+    // Próximo uso de páginas que nunca mais serão requisitadas (garante que
+    // sejam escolhidas como vítima)
+    static final int NEVER = Integer.MAX_VALUE;
+
+    private int[] frames; // frames[slot] = página carregada
+    private int[] pageToFrame; // pageToFrame[página] = slot (ABSENT se ausente)
+    private IndexedMaxHeap nextUseHeap;
+    private int[] nextUse; // nextUse[i] = próxima requisição da página pedida em i
+    private int cursor; // Posição da próxima requisição em nextUse
+    private int usedFrames;
+    private boolean buffering; // Requisições guardadas até finish() (após begin(int))
+    private int[] pending = new int[0];
+    private int pendingCount;
 
     public OPTPolicy() {
-        this.frames = new ArrayList<>();
-        this.pageFaultCount = 0;
+        this(0);
+    }
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (dimensiona o índice
+     *                      página → frame); 0 deriva o tamanho da sequência
+     */
+    public OPTPolicy(int numberOfPages) {
+        super(numberOfPages);
+        this.frames = new int[0];
+        this.pageToFrame = new int[numberOfPages];
+        this.nextUseHeap = new IndexedMaxHeap(0);
+        this.nextUse = new int[0];
     }
 
     @Override
@@ -31,97 +56,135 @@ public class OPTPolicy implements PageReplacementPolicy {
     }
 
     @Override
-    public void reset() {
-        frames.clear();
-        pageFaultCount = 0;
+    public SimulationResult simulate(IntBuffer requests, int numberOfFrames) {
+        begin(requests, numberOfFrames);
+
+        for (int i = requests.position(); i < requests.limit(); i++) {
+            access(requests.get(i));
+        }
+
+        return finish();
     }
 
+    /**
+     * Inicia a simulação incremental sem conhecer a sequência: as requisições
+     * são guardadas e simuladas em finish().
+     */
     @Override
-    public SimulationResult simulate(PageSequence sequence, int numberOfFrames) {
-        reset();
-
-        long startTime = System.currentTimeMillis();
+    public void begin(int numberOfFrames) {
+        super.begin(numberOfFrames);
+        buffering = true;
+        pendingCount = 0;
+    }
 
-        List<Integer> requests = sequence.getRequests();
-        for (int i = 0; i < requests.size(); i++) {
-            int pageIndex = requests.get(i);
-            processPageRequest(pageIndex, numberOfFrames, requests, i);
-        }
+    /**
+     * Inicia a simulação incremental de uma sequência conhecida; as chamadas a
+     * access() devem seguir exatamente as requisições informadas.
+     */
+    public void begin(IntBuffer requests, int numberOfFrames) {
+        int pageCount = PageTables.pageCount(requests, numberOfPages);
+        begin(numberOfFrames, pageCount);
+        buffering = false;
+        nextUse = buildNextUse(requests, pageCount);
+    }
 
-        long endTime = System.currentTimeMillis();
-        long executionTimeSeconds = Math.round((endTime - startTime) / 1000.0);
+    @Override
+    public SimulationResult finish() {
+        if (buffering) {
+            buffering = false;
+            nextUse = buildNextUse(IntBuffer.wrap(pending, 0, pendingCount), pageToFrame.length);
 
-        Set<Integer> swapState = calculateSwapState(sequence);
+            for (int i = 0; i < pendingCount; i++) {
+                access(pending[i]);
+            }
+        }
 
-        return new SimulationResult(getPolicyName(), executionTimeSeconds,
-                pageFaultCount, swapState);
+        return super.finish();
     }
 
-    private void processPageRequest(int pageIndex, int numberOfFrames,
-            List<Integer> allRequests, int currentIndex) {
-        if (isPageInMemory(pageIndex)) {
-            return;
+    @Override
+    protected void allocate(int numberOfFrames, int pageCount) {
+        if (frames.length != numberOfFrames) {
+            frames = new int[numberOfFrames];
+            nextUseHeap = new IndexedMaxHeap(numberOfFrames);
         }
 
-        pageFaultCount++;
-
-        if (frames.size() < numberOfFrames) {
-            frames.add(new MemoryFrame(pageIndex, currentIndex));
-        } else {
-            int victimIndex = findOptimalVictim(allRequests, currentIndex);
-            frames.set(victimIndex, new MemoryFrame(pageIndex, currentIndex));
+        if (pageToFrame.length < pageCount) {
+            pageToFrame = new int[pageCount];
         }
     }
 
-    private boolean isPageInMemory(int pageIndex) {
-        for (MemoryFrame frame : frames) {
-            if (frame.getPageIndex() == pageIndex) {
-                return true;
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(pageToFrame, ABSENT);
+        nextUseHeap.clear();
+        usedFrames = 0;
+        cursor = 0;
+    }
+
+    @Override
+    public int access(int pageIndex) {
+        if (buffering) {
+            if (pendingCount == pending.length) {
+                pending = Arrays.copyOf(pending, Math.max(1024, 2 * pending.length));
             }
-        }
 
-        return false;
-    }
+            pending[pendingCount++] = pageIndex;
+            return PENDING;
+        }
 
-    private int findOptimalVictim(List<Integer> allRequests, int currentIndex) {
-        int victimIndex = 0;
-        int farthestUse = -1;
+        if (cursor >= nextUse.length) {
+            throw new IllegalStateException("Requisição além da sequência informada em begin(IntBuffer, int)");
+        }
 
-        for (int i = 0; i < frames.size(); i++) {
-            int pageInFrame = frames.get(i).getPageIndex();
-            int nextUse = findNextUse(pageInFrame, allRequests, currentIndex + 1);
+        int next = nextUse[cursor++];
+        int slot = pageToFrame[pageIndex];
 
-            if (nextUse >= farthestUse) {
-                farthestUse = nextUse;
-                victimIndex = i;
-            }
+        if (slot != ABSENT) {
+            nextUseHeap.set(slot, next);
+            return hit(pageIndex);
         }
 
-        return victimIndex;
-    }
+        int evictedPage = MISS;
 
-    // Retorna Integer.MAX_VALUE quando a página nunca mais será usada (garante que
-    // seja escolhida como vítima)
-    private int findNextUse(int pageIndex, List<Integer> allRequests, int startIndex) {
-        for (int i = startIndex; i < allRequests.size(); i++) {
-            if (allRequests.get(i) == pageIndex) {
-                return i;
-            }
+        if (usedFrames < numberOfFrames) {
+            slot = usedFrames++;
+        } else {
+            slot = nextUseHeap.top();
+            evictedPage = frames[slot];
+            pageToFrame[evictedPage] = ABSENT;
         }
 
-        return Integer.MAX_VALUE;
-    }
+        frames[slot] = pageIndex;
+        pageToFrame[pageIndex] = slot;
+        nextUseHeap.set(slot, next);
 
-    private Set<Integer> calculateSwapState(PageSequence sequence) {
-        Set<Integer> allPages = new HashSet<>(sequence.getRequests());
+        return fault(pageIndex, evictedPage);
+    }
 
-        Set<Integer> pagesInMemory = new HashSet<>();
+    @Override
+    protected boolean isResident(int pageIndex) {
+        return pageToFrame[pageIndex] != ABSENT;
+    }
 
-        for (MemoryFrame frame : frames) {
-            pagesInMemory.add(frame.getPageIndex());
+    /**
+     * Calcula, para cada posição da sequência (relativa a position()), o
+     * índice da próxima requisição da mesma página (ou NEVER), percorrendo a
+     * sequência de trás para frente.
+     */
+    static int[] buildNextUse(IntBuffer requests, int pageCount) {
+        int offset = requests.position();
+        int[] nextUse = new int[requests.limit() - offset];
+        int[] nextOccurrence = new int[pageCount];
+        Arrays.fill(nextOccurrence, NEVER);
+
+        for (int i = nextUse.length - 1; i >= 0; i--) {
+            int page = requests.get(offset + i);
+            nextUse[i] = nextOccurrence[page];
+            nextOccurrence[page] = i;
         }
 
-        allPages.removeAll(pagesInMemory);
-        return allPages;
+        return nextUse;
     }
 }
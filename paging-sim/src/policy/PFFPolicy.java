@@ -0,0 +1,56 @@
+package policy;
+
+/**
+ * Política PFF (Page-Fault Frequency) de substituição de páginas.
+ * Ajusta o conjunto residente pela frequência de page faults: se o intervalo
+ * desde o último fault ultrapassa o limiar, os faults estão raros e as
+ * páginas não acessadas desde aquele fault deixam a memória; caso contrário
+ * a página nova apenas se soma ao conjunto residente.
+ */
+public class PFFPolicy extends VariableAllocationPolicy {
+
+    public static final int DEFAULT_THRESHOLD = 1_000;
+
+    private final int threshold;
+    private int lastFault; // Instante do último page fault
+
+    public PFFPolicy() {
+        this(0, DEFAULT_THRESHOLD);
+    }
+
+    public PFFPolicy(int numberOfPages, int threshold) {
+        this(numberOfPages, threshold, false);
+    }
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais; 0 deriva o tamanho
+     *                      da sequência
+     * @param threshold     intervalo entre faults, em requisições, acima do
+     *                      qual o conjunto residente é reduzido
+     * @param frameLimited  limita o conjunto residente à quantidade de frames
+     */
+    public PFFPolicy(int numberOfPages, int threshold, boolean frameLimited) {
+        super(numberOfPages, frameLimited);
+        this.threshold = threshold;
+    }
+
+    @Override
+    public String getPolicyName() {
+        return "PFF";
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        lastFault = 0;
+    }
+
+    @Override
+    protected void beforeFault() {
+        if (time - lastFault > threshold) {
+            releaseOlderThan(lastFault);
+        }
+
+        lastFault = time;
+    }
+}
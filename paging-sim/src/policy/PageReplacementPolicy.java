@@ -2,14 +2,58 @@ package policy;
 
 import model.PageSequence;
 import model.SimulationResult;
+import java.nio.IntBuffer;
 
 /**
  * Interface que define o contrato para políticas de substituição de páginas.
  * Implementa o Strategy Pattern, permitindo trocar algoritmos dinamicamente.
+ * O ponto de entrada primitivo recebe as requisições como IntBuffer
+ * (posições [position, limit)), de modo que nenhuma política faz boxing no
+ * laço principal.
+ * A API incremental (begin/access/finish) permite simular traces maiores que
+ * a memória: cada requisição é entregue isoladamente e o resultado só é
+ * montado ao final.
  */
 public interface PageReplacementPolicy {
 
-    SimulationResult simulate(PageSequence sequence, int numberOfFrames);
+    // Retornos de access(): a página já estava residente
+    int HIT = -1;
+
+    // Retornos de access(): page fault atendido por um frame livre (sem despejo)
+    int MISS = -2;
+
+    // Retornos de access(): decisão adiada (políticas que precisam do futuro)
+    int PENDING = -3;
+
+    SimulationResult simulate(IntBuffer requests, int numberOfFrames);
+
+    default SimulationResult simulate(PageSequence sequence, int numberOfFrames) {
+        return simulate(sequence.asIntBuffer(), numberOfFrames);
+    }
+
+    /**
+     * Inicia uma simulação incremental com a quantidade de frames informada.
+     */
+    void begin(int numberOfFrames);
+
+    /**
+     * Processa uma requisição e retorna HIT, MISS, a página despejada (>= 0)
+     * ou PENDING, quando o resultado só é conhecido em uma requisição
+     * posterior ou em finish().
+     */
+    int access(int pageIndex);
+
+    /**
+     * Encerra a simulação incremental e retorna o resultado acumulado.
+     */
+    SimulationResult finish();
+
+    /**
+     * Envia ao sink um evento por requisição (e por página liberada sem
+     * substituição), em lotes. null desativa os eventos, que então não têm
+     * custo além de um teste por requisição.
+     */
+    void setEventSink(AccessEventSink sink);
 
     String getPolicyName();
 
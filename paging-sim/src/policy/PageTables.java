@@ -0,0 +1,30 @@
+package policy;
+
+import java.nio.IntBuffer;
+
+/**
+ * Utilitário para dimensionar as tabelas indexadas por número de página
+ * usadas pelas políticas e pelos analisadores de curva de page faults.
+ */
+public final class PageTables {
+
+    private PageTables() {
+    }
+
+    /**
+     * Retorna a quantidade de páginas a endereçar: numberOfPages quando
+     * informado (> 0) ou o maior índice presente nas requisições + 1.
+     */
+    public static int pageCount(IntBuffer requests, int numberOfPages) {
+        if (numberOfPages > 0) {
+            return numberOfPages;
+        }
+
+        int max = 0;
+        for (int i = requests.position(); i < requests.limit(); i++) {
+            max = Math.max(max, requests.get(i));
+        }
+
+        return max + 1;
+    }
+}
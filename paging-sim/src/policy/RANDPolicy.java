@@ -1,69 +1,91 @@
 package policy;
 
-import model.PageSequence;
-import model.SimulationResult;
-import java.util.*;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 
 /**
  * Política RAND (Random) de substituição de páginas.
  * Substitui um frame escolhido aleatoriamente da memória física.
- * Converte HashSet para ArrayList para permitir acesso por índice aleatório.
+ * As páginas residentes ficam em um int[] denso com índice de posição por
+ * página, então a vítima é sorteada por posição e a nova página ocupa o seu
+ * lugar em O(1), sem cópias da memória residente.
+ * Usa SplittableRandom com semente explícita para saídas reproduzíveis.
  */
-public class RANDPolicy implements PageReplacementPolicy {
+public class RANDPolicy extends AbstractPageReplacementPolicy {
 
-    private Set<Integer> pagesInMemory;
-    private Set<Integer> swapState;
-    private int pageFaults;
-    private Random random;
+    private final long seed;
+    private final boolean seeded;
+
+    private int[] pagesInMemory; // Páginas residentes (posições 0..usedFrames-1)
+    private int[] positionOf; // positionOf[página] = posição em pagesInMemory
+    private int usedFrames;
+    private SplittableRandom random;
 
     public RANDPolicy() {
-        reset();
+        this(0, 0L, false);
     }
 
-    @Override
-    public void reset() {
-        pagesInMemory = new HashSet<>();
-        swapState = new TreeSet<>();
-        pageFaults = 0;
-        random = new Random();
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (dimensiona o índice
+     *                      de posições); 0 deriva o tamanho da sequência
+     * @param seed          semente do gerador, reaplicada a cada simulação
+     */
+    public RANDPolicy(int numberOfPages, long seed) {
+        this(numberOfPages, seed, true);
     }
 
-    @Override
-    public SimulationResult simulate(PageSequence sequence, int numberOfFrames) {
-        reset();
-        long startTime = System.nanoTime();
+    private RANDPolicy(int numberOfPages, long seed, boolean seeded) {
+        super(numberOfPages);
+        this.seed = seed;
+        this.seeded = seeded;
+        this.pagesInMemory = new int[0];
+        this.positionOf = new int[numberOfPages];
+    }
 
-        List<Integer> requests = sequence.getRequests();
+    @Override
+    protected void allocate(int numberOfFrames, int pageCount) {
+        if (pagesInMemory.length != numberOfFrames) {
+            pagesInMemory = new int[numberOfFrames];
+        }
 
-        for (int pageIndex : requests) {
-            if (!pagesInMemory.contains(pageIndex)) {
-                pageFaults++;
+        if (positionOf.length < pageCount) {
+            positionOf = new int[pageCount];
+        }
+    }
 
-                swapState.remove(pageIndex);
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(positionOf, ABSENT);
+        usedFrames = 0;
+        random = seeded ? new SplittableRandom(seed) : new SplittableRandom();
+    }
 
-                if (pagesInMemory.size() < numberOfFrames) {
-                    pagesInMemory.add(pageIndex);
-                } else {
-                    int pageToReplace = selectRandomPage();
-                    pagesInMemory.remove(pageToReplace);
-                    swapState.add(pageToReplace);
+    @Override
+    public int access(int pageIndex) {
+        if (positionOf[pageIndex] != ABSENT) {
+            return hit(pageIndex);
+        }
 
-                    pagesInMemory.add(pageIndex);
-                }
-            }
+        if (usedFrames < numberOfFrames) {
+            positionOf[pageIndex] = usedFrames;
+            pagesInMemory[usedFrames++] = pageIndex;
+            return fault(pageIndex, MISS);
         }
 
-        long endTime = System.nanoTime();
-        long executionTimeSeconds = Math.round((endTime - startTime) / 1_000_000_000.0);
+        int position = random.nextInt(usedFrames);
+        int pageToReplace = pagesInMemory[position];
+        positionOf[pageToReplace] = ABSENT;
 
-        return new SimulationResult(getPolicyName(), executionTimeSeconds, pageFaults,
-                new HashSet<>(swapState));
+        positionOf[pageIndex] = position;
+        pagesInMemory[position] = pageIndex;
+
+        return fault(pageIndex, pageToReplace);
     }
 
-    private int selectRandomPage() {
-        List<Integer> pages = new ArrayList<>(pagesInMemory);
-        int randomIndex = random.nextInt(pages.size());
-        return pages.get(randomIndex);
+    @Override
+    protected boolean isResident(int pageIndex) {
+        return positionOf[pageIndex] != ABSENT;
     }
 
     @Override
@@ -0,0 +1,137 @@
+package policy;
+
+import java.util.Arrays;
+
+/**
+ * Base das políticas de alocação variável (working set e PFF), em que o
+ * conjunto residente cresce e encolhe ao longo da execução em vez de ocupar
+ * sempre todos os frames.
+ * Cada página guarda o instante do último acesso em um int[], e as páginas
+ * residentes formam uma lista intrusiva em ordem de recência sobre vetores
+ * indexados por página. As páginas que saem do conjunto residente são sempre
+ * as do fim da lista, então cada redução custa O(1) amortizado.
+ * Por padrão o conjunto residente não tem limite, para que o tamanho médio e
+ * o pico em SimulationMetrics meçam a memória de que o processo de fato
+ * precisa. Com frameLimited, a quantidade de frames passa a ser o limite da
+ * memória física: um page fault com todos os frames ocupados despeja a
+ * página menos recente.
+ */
+public abstract class VariableAllocationPolicy extends AbstractPageReplacementPolicy {
+
+    protected int[] lastReference; // lastReference[página] = instante do último acesso
+    private int[] prev; // vizinho mais recente (o último índice é o sentinela)
+    private int[] next; // vizinho menos recente; ABSENT fora da lista
+    private int sentinel;
+    private int residentCount;
+    private final boolean frameLimited; // Limita o conjunto residente aos frames
+    protected int time; // Instante da requisição atual (a partir de 1)
+
+    protected VariableAllocationPolicy(int numberOfPages, boolean frameLimited) {
+        super(numberOfPages);
+        this.frameLimited = frameLimited;
+        this.lastReference = new int[numberOfPages];
+        this.prev = new int[numberOfPages + 1];
+        this.next = new int[numberOfPages + 1];
+    }
+
+    @Override
+    protected void allocate(int numberOfFrames, int pageCount) {
+        if (lastReference.length < pageCount) {
+            lastReference = new int[pageCount];
+            prev = new int[pageCount + 1];
+            next = new int[pageCount + 1];
+        }
+
+        sentinel = lastReference.length;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(lastReference, 0);
+        Arrays.fill(next, ABSENT);
+        prev[sentinel] = sentinel;
+        next[sentinel] = sentinel;
+        residentCount = 0;
+        time = 0;
+    }
+
+    @Override
+    public int access(int pageIndex) {
+        time++;
+
+        if (isResident(pageIndex)) {
+            unlink(pageIndex);
+            linkMostRecent(pageIndex);
+            lastReference[pageIndex] = time;
+            afterAccess();
+            return hit(pageIndex);
+        }
+
+        beforeFault();
+
+        int evictedPage = MISS;
+
+        if (frameLimited && residentCount == numberOfFrames) {
+            evictedPage = prev[sentinel];
+            unlink(evictedPage);
+        }
+
+        linkMostRecent(pageIndex);
+        lastReference[pageIndex] = time;
+        afterAccess();
+
+        // Registrado após as reduções, para medir o conjunto residente final
+        return fault(pageIndex, evictedPage);
+    }
+
+    @Override
+    protected boolean isResident(int pageIndex) {
+        return next[pageIndex] != ABSENT;
+    }
+
+    /**
+     * Chamado antes de carregar a página de um page fault.
+     */
+    protected void beforeFault() {
+    }
+
+    /**
+     * Chamado ao final de cada requisição, com a página já registrada.
+     */
+    protected void afterAccess() {
+    }
+
+    /**
+     * Retira do conjunto residente as páginas acessadas pela última vez antes
+     * do instante informado.
+     */
+    protected final void releaseOlderThan(int instant) {
+        int page = prev[sentinel];
+
+        while (page != sentinel && lastReference[page] < instant) {
+            int before = prev[page];
+            unlink(page);
+            release(page);
+            page = before;
+        }
+    }
+
+    private void unlink(int page) {
+        int before = prev[page];
+        int after = next[page];
+        next[before] = after;
+        prev[after] = before;
+        next[page] = ABSENT;
+        residentCount--;
+    }
+
+    private void linkMostRecent(int page) {
+        int first = next[sentinel];
+        prev[page] = sentinel;
+        next[page] = first;
+        prev[first] = page;
+        next[sentinel] = page;
+        residentCount++;
+    }
+}
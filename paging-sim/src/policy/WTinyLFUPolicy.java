@@ -0,0 +1,193 @@
+package policy;
+
+import java.util.Arrays;
+
+/**
+ * Política W-TinyLFU de substituição de páginas.
+ * Toda página nova entra em uma pequena janela LRU (1% dos frames). Quando a
+ * janela transborda, sua página menos recente disputa a entrada na região
+ * principal com a vítima dela: só é admitida se a frequência estimada pelo
+ * FrequencySketch for maior; caso contrário é ela a despejada. A região
+ * principal é um LRU segmentado: páginas admitidas entram no segmento de
+ * experiência e passam ao protegido (80% da região) no primeiro acerto.
+ * As três listas são intrusivas sobre vetores de slots e o índice página →
+ * slot é um int[]; o estado do sketch é proporcional à quantidade de frames.
+ */
+public class WTinyLFUPolicy extends AbstractPageReplacementPolicy {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final FrequencySketch sketch = new FrequencySketch();
+
+    private int[] slotPage; // slotPage[slot] = página carregada
+    private int[] slotList; // slotList[slot] = WINDOW, PROBATION ou PROTECTED
+    private int[] prev; // vizinho mais recente (os nós 'numberOfFrames + lista' são sentinelas)
+    private int[] next; // vizinho menos recente
+    private int[] pageToSlot; // pageToSlot[página] = slot (ABSENT se ausente)
+    private final int[] sizes = new int[3];
+    private int maxWindow;
+    private int maxProtected;
+    private int usedFrames;
+
+    public WTinyLFUPolicy() {
+        this(0);
+    }
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais (dimensiona o índice
+     *                      página → slot); 0 deriva o tamanho da sequência
+     */
+    public WTinyLFUPolicy(int numberOfPages) {
+        super(numberOfPages);
+        this.slotPage = new int[0];
+        this.slotList = new int[0];
+        this.prev = new int[3];
+        this.next = new int[3];
+        this.pageToSlot = new int[numberOfPages];
+    }
+
+    @Override
+    public String getPolicyName() {
+        return "WTINYLFU";
+    }
+
+    @Override
+    protected void allocate(int numberOfFrames, int pageCount) {
+        if (slotPage.length != numberOfFrames) {
+            slotPage = new int[numberOfFrames];
+            slotList = new int[numberOfFrames];
+            prev = new int[numberOfFrames + 3];
+            next = new int[numberOfFrames + 3];
+        }
+
+        if (pageToSlot.length < pageCount) {
+            pageToSlot = new int[pageCount];
+        }
+
+        maxWindow = Math.max(1, numberOfFrames / 100);
+        maxProtected = (numberOfFrames - maxWindow) * 4 / 5;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(pageToSlot, ABSENT);
+        Arrays.fill(sizes, 0);
+        usedFrames = 0;
+        sketch.reset(numberOfFrames);
+
+        for (int list = WINDOW; list <= PROTECTED; list++) {
+            int head = numberOfFrames + list;
+            prev[head] = head;
+            next[head] = head;
+        }
+    }
+
+    @Override
+    public int access(int pageIndex) {
+        sketch.increment(pageIndex);
+        int slot = pageToSlot[pageIndex];
+
+        if (slot != ABSENT) {
+            if (slotList[slot] == WINDOW) {
+                moveToMostRecent(slot, WINDOW);
+            } else {
+                moveToMostRecent(slot, PROTECTED);
+
+                if (sizes[PROTECTED] > maxProtected) {
+                    moveToMostRecent(leastRecent(PROTECTED), PROBATION);
+                }
+            }
+
+            return hit(pageIndex);
+        }
+
+        int evictedPage = MISS;
+
+        if (usedFrames < numberOfFrames) {
+            slot = usedFrames++;
+
+            if (sizes[WINDOW] == maxWindow) {
+                moveToMostRecent(leastRecent(WINDOW), PROBATION);
+            }
+        } else if (sizes[WINDOW] == maxWindow) {
+            slot = admit();
+            evictedPage = slotPage[slot];
+        } else {
+            slot = mainVictim();
+            evictedPage = slotPage[slot];
+        }
+
+        if (evictedPage != MISS) {
+            unlink(slot);
+            pageToSlot[evictedPage] = ABSENT;
+        }
+
+        slotPage[slot] = pageIndex;
+        pageToSlot[pageIndex] = slot;
+        link(slot, WINDOW);
+
+        return fault(pageIndex, evictedPage);
+    }
+
+    @Override
+    protected boolean isResident(int pageIndex) {
+        return pageToSlot[pageIndex] != ABSENT;
+    }
+
+    /**
+     * Disputa entre a página que sai da janela e a vítima da região principal.
+     *
+     * @return slot a despejar
+     */
+    private int admit() {
+        int candidate = leastRecent(WINDOW);
+
+        if (sizes[PROBATION] + sizes[PROTECTED] == 0) {
+            return candidate;
+        }
+
+        int victim = mainVictim();
+
+        if (sketch.frequency(slotPage[candidate]) > sketch.frequency(slotPage[victim])) {
+            moveToMostRecent(candidate, PROBATION);
+            return victim;
+        }
+
+        return candidate;
+    }
+
+    private int mainVictim() {
+        return sizes[PROBATION] > 0 ? leastRecent(PROBATION) : leastRecent(PROTECTED);
+    }
+
+    private int leastRecent(int list) {
+        return prev[numberOfFrames + list];
+    }
+
+    private void moveToMostRecent(int slot, int list) {
+        unlink(slot);
+        link(slot, list);
+    }
+
+    private void unlink(int slot) {
+        int before = prev[slot];
+        int after = next[slot];
+        next[before] = after;
+        prev[after] = before;
+        sizes[slotList[slot]]--;
+    }
+
+    private void link(int slot, int list) {
+        int head = numberOfFrames + list;
+        int first = next[head];
+        prev[slot] = head;
+        next[slot] = first;
+        prev[first] = slot;
+        next[head] = slot;
+        slotList[slot] = list;
+        sizes[list]++;
+    }
+}
@@ -0,0 +1,160 @@
+package policy;
+
+import exception.InvalidConfigurationException;
+import model.SimulationResult;
+
+import java.util.Arrays;
+
+/**
+ * Variante do MIN com janela de previsão limitada, para a simulação
+ * incremental de traces cujo futuro não cabe na memória.
+ * Cada requisição só é processada quando as 'lookahead' requisições seguintes
+ * já chegaram; páginas sem novo uso dentro da janela são tratadas como "nunca
+ * mais usadas". Com lookahead maior ou igual ao tamanho da sequência, o
+ * resultado é idêntico ao de OPTPolicy.
+ * Como a decisão é atrasada, access() retorna PENDING enquanto a janela
+ * enche e, depois, o resultado da requisição que sai da janela.
+ */
+public class WindowedOPTPolicy extends AbstractPageReplacementPolicy {
+
+    private static final long NEVER = OPTPolicy.NEVER;
+
+    private final int lookahead;
+
+    private final int[] windowPages; // Requisições ainda não processadas (buffer circular)
+    private final long[] windowNextUse; // Próxima chegada da mesma página (ou NEVER)
+    private long arrived; // Requisições recebidas
+    private long processed; // Requisições já decididas
+
+    private long[] lastArrival; // lastArrival[página] = índice da última chegada
+    private int[] frames; // frames[slot] = página carregada
+    private int[] pageToFrame; // pageToFrame[página] = slot (ABSENT se ausente)
+    private IndexedMaxHeap nextUseHeap;
+    private int usedFrames;
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais
+     * @param lookahead     quantidade de requisições futuras visíveis
+     */
+    public WindowedOPTPolicy(int numberOfPages, int lookahead) {
+        super(numberOfPages);
+
+        if (lookahead < 0 || lookahead == Integer.MAX_VALUE) {
+            throw new InvalidConfigurationException(
+                    String.format("Janela de previsão (%d) deve estar entre 0 e %d", lookahead,
+                            Integer.MAX_VALUE - 1));
+        }
+
+        this.lookahead = lookahead;
+        this.windowPages = new int[lookahead + 1];
+        this.windowNextUse = new long[lookahead + 1];
+        this.lastArrival = new long[numberOfPages];
+        this.frames = new int[0];
+        this.pageToFrame = new int[numberOfPages];
+        this.nextUseHeap = new IndexedMaxHeap(0);
+    }
+
+    @Override
+    public String getPolicyName() {
+        return "MIN";
+    }
+
+    public int getLookahead() {
+        return lookahead;
+    }
+
+    @Override
+    protected void allocate(int numberOfFrames, int pageCount) {
+        if (frames.length != numberOfFrames) {
+            frames = new int[numberOfFrames];
+            nextUseHeap = new IndexedMaxHeap(numberOfFrames);
+        }
+
+        if (pageToFrame.length < pageCount) {
+            pageToFrame = new int[pageCount];
+            lastArrival = new long[pageCount];
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(pageToFrame, ABSENT);
+        Arrays.fill(lastArrival, -1L);
+        nextUseHeap.clear();
+        usedFrames = 0;
+        arrived = 0;
+        processed = 0;
+    }
+
+    @Override
+    public int access(int pageIndex) {
+        long index = arrived++;
+        long previous = lastArrival[pageIndex];
+
+        if (previous >= processed) {
+            // A chegada anterior ainda está na janela: ela passa a conhecer seu próximo uso
+            windowNextUse[slotOf(previous)] = index;
+        } else if (pageToFrame[pageIndex] != ABSENT) {
+            // Página residente cujo próximo uso era desconhecido (fora da janela)
+            nextUseHeap.set(pageToFrame[pageIndex], index);
+        }
+
+        lastArrival[pageIndex] = index;
+        int slot = slotOf(index);
+        windowPages[slot] = pageIndex;
+        windowNextUse[slot] = NEVER;
+
+        if (arrived - processed > lookahead) {
+            return processOldest();
+        }
+
+        return PENDING;
+    }
+
+    @Override
+    public SimulationResult finish() {
+        while (processed < arrived) {
+            processOldest();
+        }
+
+        return super.finish();
+    }
+
+    private int processOldest() {
+        int slotInWindow = slotOf(processed++);
+        int pageIndex = windowPages[slotInWindow];
+        long next = windowNextUse[slotInWindow];
+        int slot = pageToFrame[pageIndex];
+
+        if (slot != ABSENT) {
+            nextUseHeap.set(slot, next);
+            return hit(pageIndex);
+        }
+
+        int evictedPage = MISS;
+
+        if (usedFrames < numberOfFrames) {
+            slot = usedFrames++;
+        } else {
+            slot = nextUseHeap.top();
+            evictedPage = frames[slot];
+            pageToFrame[evictedPage] = ABSENT;
+        }
+
+        frames[slot] = pageIndex;
+        pageToFrame[pageIndex] = slot;
+        nextUseHeap.set(slot, next);
+
+        return fault(pageIndex, evictedPage);
+    }
+
+    private int slotOf(long index) {
+        return (int) (index % windowPages.length);
+    }
+
+    @Override
+    protected boolean isResident(int pageIndex) {
+        return pageToFrame[pageIndex] != ABSENT;
+    }
+}
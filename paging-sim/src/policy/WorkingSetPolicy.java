@@ -0,0 +1,45 @@
+package policy;
+
+/**
+ * Política do conjunto de trabalho (working set) de Denning.
+ * Mantém residentes exatamente as páginas acessadas nas últimas τ
+ * requisições: após cada acesso, as páginas cujo último acesso saiu da janela
+ * deixam a memória. O tamanho médio e o pico do conjunto residente, em
+ * SimulationMetrics, indicam quanta memória o processo de fato precisa.
+ */
+public class WorkingSetPolicy extends VariableAllocationPolicy {
+
+    public static final int DEFAULT_WINDOW = 10_000;
+
+    private final int window;
+
+    public WorkingSetPolicy() {
+        this(0, DEFAULT_WINDOW);
+    }
+
+    public WorkingSetPolicy(int numberOfPages, int window) {
+        this(numberOfPages, window, false);
+    }
+
+    /**
+     * @param numberOfPages quantidade de páginas virtuais; 0 deriva o tamanho
+     *                      da sequência
+     * @param window        janela τ, em requisições
+     * @param frameLimited  limita o conjunto residente à quantidade de frames
+     */
+    public WorkingSetPolicy(int numberOfPages, int window, boolean frameLimited) {
+        super(numberOfPages, frameLimited);
+        this.window = window;
+    }
+
+    @Override
+    public String getPolicyName() {
+        return "WS";
+    }
+
+    @Override
+    protected void afterAccess() {
+        // Conjunto de trabalho W(t, τ): acessos nos instantes (t - τ, t]
+        releaseOlderThan(time - window + 1);
+    }
+}
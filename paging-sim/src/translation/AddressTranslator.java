@@ -0,0 +1,85 @@
+package translation;
+
+import model.SystemConfiguration;
+import model.TranslationMetrics;
+import policy.AccessEventBuffer;
+import policy.AccessEventSink;
+import policy.PageReplacementPolicy;
+
+/**
+ * Camada de tradução de endereços à frente da política de substituição.
+ * Recebe o fluxo de eventos da política (PageReplacementPolicy
+ * .setEventSink) e, na ordem das requisições, consulta a TLB; em uma falta,
+ * percorre a tabela de páginas e carrega a tradução. Páginas despejadas ou
+ * liberadas saem da TLB, de modo que uma página só acerta na TLB se ainda
+ * estiver residente.
+ * Custo de cada acesso: a consulta à TLB e, nas faltas, o percurso
+ * completo. O atendimento do page fault em si não entra nos ciclos.
+ */
+public final class AddressTranslator implements AccessEventSink {
+
+    public static final int TLB_HIT_CYCLES = 1;
+
+    private final TLB tlb;
+    private final PageTableWalker walker;
+    private final long tlbReach;
+    private long accesses;
+    private long tlbHits;
+    private long walks;
+    private long cycles;
+
+    public AddressTranslator(TLB tlb, PageTableWalker walker, SystemConfiguration config) {
+        this.tlb = tlb;
+        this.walker = walker;
+        this.tlbReach = (long) tlb.getEntries() * config.getPageSize();
+    }
+
+    @Override
+    public void begin(String policyName, int numberOfFrames) {
+        tlb.reset();
+        accesses = 0;
+        tlbHits = 0;
+        walks = 0;
+        cycles = 0;
+    }
+
+    @Override
+    public void accept(AccessEventBuffer events) {
+        long walkCycles = walker.getWalkCycles();
+
+        for (int i = 0; i < events.size(); i++) {
+            int page = events.page(i);
+            int result = events.result(i);
+
+            if (result == AccessEventBuffer.RELEASE) {
+                tlb.invalidate(page);
+                continue;
+            }
+
+            accesses++;
+            cycles += TLB_HIT_CYCLES;
+
+            // Página não residente nunca está na TLB: só acertos consultam
+            if (result == PageReplacementPolicy.HIT && tlb.lookup(page)) {
+                tlbHits++;
+                continue;
+            }
+
+            if (result >= 0) {
+                tlb.invalidate(result);
+            }
+
+            walks++;
+            cycles += walkCycles;
+            tlb.insert(page);
+        }
+    }
+
+    @Override
+    public void end() {
+    }
+
+    public TranslationMetrics getMetrics() {
+        return new TranslationMetrics(accesses, tlbHits, walks, walker.getLevels(), cycles, tlbReach);
+    }
+}
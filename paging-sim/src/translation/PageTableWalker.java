@@ -0,0 +1,48 @@
+package translation;
+
+import model.SystemConfiguration;
+
+/**
+ * Modelo de custo do percurso na tabela de páginas hierárquica.
+ * Cada nível é uma tabela do tamanho de uma página de 4 KB indexada por uma
+ * fatia fixa do endereço virtual: 10 bits no x86 (entradas de 4 bytes,
+ * endereços de 32 bits, até 2 níveis) e 9 bits no x64 (entradas de 8 bytes,
+ * endereços de 48 bits, até 4 níveis). Páginas maiores deixam menos bits
+ * para os índices e encerram o percurso mais cedo, como as páginas de 4 MB
+ * do x86 (1 nível) ou as de 2 MB e 1 GB do x64 (3 e 2 níveis).
+ * Cada nível custa um acesso à memória.
+ */
+public final class PageTableWalker {
+
+    private final int levels;
+    private final int cyclesPerLevel;
+
+    private PageTableWalker(int levels, int cyclesPerLevel) {
+        this.levels = levels;
+        this.cyclesPerLevel = cyclesPerLevel;
+    }
+
+    public static PageTableWalker of(SystemConfiguration config, int cyclesPerLevel) {
+        boolean x64 = config.getArchitecture().equals("x64");
+        int addressBits = x64 ? 48 : 32;
+        int indexBits = x64 ? 9 : 10;
+        int maxLevels = x64 ? 4 : 2;
+
+        int offsetBits = Integer.numberOfTrailingZeros(config.getPageSize());
+        int pageNumberBits = Math.max(0, addressBits - offsetBits);
+        int levels = (pageNumberBits + indexBits - 1) / indexBits;
+
+        return new PageTableWalker(Math.max(1, Math.min(maxLevels, levels)), cyclesPerLevel);
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Ciclos de um percurso completo.
+     */
+    public long getWalkCycles() {
+        return (long) levels * cyclesPerLevel;
+    }
+}
@@ -0,0 +1,116 @@
+package translation;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * TLB associativa por conjuntos: entries entradas em conjuntos de ways vias,
+ * com o conjunto escolhido pelos bits baixos do número da página.
+ * As etiquetas e os instantes de uso/carga ficam em vetores primitivos
+ * indexados por conjunto × via, então consultas, cargas e invalidações não
+ * alocam e custam O(vias).
+ */
+public final class TLB {
+
+    private static final int INVALID = -1;
+
+    private final int sets;
+    private final int ways;
+    private final TLBReplacement replacement;
+    private final long seed;
+    private SplittableRandom random;
+    private final int[] tags; // tags[conjunto * ways + via] = página (INVALID se vazia)
+    private final long[] stamps; // Instante do último uso (LRU) ou da carga (FIFO)
+    private long time;
+
+    /**
+     * @param entries quantidade de entradas, múltipla de ways
+     */
+    public TLB(int entries, int ways, TLBReplacement replacement, long seed) {
+        this.sets = entries / ways;
+        this.ways = ways;
+        this.replacement = replacement;
+        this.seed = seed;
+        this.tags = new int[entries];
+        this.stamps = new long[entries];
+        reset();
+    }
+
+    public int getEntries() {
+        return tags.length;
+    }
+
+    /**
+     * Esvazia a TLB e reinicia os sorteios, para que cada simulação seja
+     * reproduzível.
+     */
+    public void reset() {
+        Arrays.fill(tags, INVALID);
+        Arrays.fill(stamps, 0L);
+        time = 0;
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Procura a tradução da página; no LRU, um acerto renova a entrada.
+     */
+    public boolean lookup(int pageIndex) {
+        int first = firstWay(pageIndex);
+
+        for (int entry = first; entry < first + ways; entry++) {
+            if (tags[entry] == pageIndex) {
+                if (replacement == TLBReplacement.LRU) {
+                    stamps[entry] = ++time;
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Carrega a tradução após um percurso, ocupando uma via vazia do
+     * conjunto ou substituindo a vítima da política.
+     */
+    public void insert(int pageIndex) {
+        int first = firstWay(pageIndex);
+        int victim = first;
+
+        for (int entry = first; entry < first + ways; entry++) {
+            if (tags[entry] == INVALID) {
+                victim = entry;
+                break;
+            }
+
+            if (stamps[entry] < stamps[victim]) {
+                victim = entry;
+            }
+        }
+
+        if (tags[victim] != INVALID && replacement == TLBReplacement.RANDOM) {
+            victim = first + random.nextInt(ways);
+        }
+
+        tags[victim] = pageIndex;
+        stamps[victim] = ++time;
+    }
+
+    /**
+     * Descarta a tradução da página, se presente (página despejada).
+     */
+    public void invalidate(int pageIndex) {
+        int first = firstWay(pageIndex);
+
+        for (int entry = first; entry < first + ways; entry++) {
+            if (tags[entry] == pageIndex) {
+                tags[entry] = INVALID;
+                return;
+            }
+        }
+    }
+
+    private int firstWay(int pageIndex) {
+        return (pageIndex % sets) * ways;
+    }
+}
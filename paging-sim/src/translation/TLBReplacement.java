@@ -0,0 +1,34 @@
+package translation;
+
+import exception.InvalidInputException;
+
+/**
+ * Substituição entre as vias de um conjunto da TLB, independente da política
+ * de substituição de páginas.
+ */
+public enum TLBReplacement {
+
+    LRU("lru"), // Entrada usada há mais tempo
+    FIFO("fifo"), // Entrada carregada há mais tempo
+    RANDOM("rand"); // Via sorteada
+
+    private final String optionName;
+
+    TLBReplacement(String optionName) {
+        this.optionName = optionName;
+    }
+
+    public String getOptionName() {
+        return optionName;
+    }
+
+    public static TLBReplacement fromOption(String name, String value) {
+        for (TLBReplacement replacement : values()) {
+            if (replacement.optionName.equalsIgnoreCase(value)) {
+                return replacement;
+            }
+        }
+
+        throw new InvalidInputException(name, value, "substituição desconhecida (lru, fifo ou rand)");
+    }
+}
@@ -0,0 +1,158 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Mapa int -> int com endereçamento aberto (sondagem linear) sobre arrays
+ * primitivos, sem boxing. A remoção desloca as entradas seguintes do mesmo
+ * agrupamento, dispensando marcadores de remoção.
+ */
+public class IntIntHashMap {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final int missingValue;
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    /**
+     * @param expectedSize quantidade de entradas prevista (evita crescimento)
+     * @param missingValue valor devolvido por get() para chaves ausentes
+     */
+    public IntIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    public int get(int key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : missingValue;
+    }
+
+    /**
+     * Associa o valor à chave e devolve o valor anterior (ou missingValue).
+     */
+    public int put(int key, int value) {
+        int index = slot(key);
+
+        while (used[index]) {
+            if (keys[index] == key) {
+                int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        used[index] = true;
+        keys[index] = key;
+        values[index] = value;
+
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+
+        return missingValue;
+    }
+
+    /**
+     * Remove a chave e devolve o valor associado (ou missingValue).
+     */
+    public int remove(int key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return missingValue;
+        }
+
+        int previous = values[index];
+        size--;
+
+        // Desloca para trás as entradas cuja posição ideal não passa pelo buraco
+        int hole = index;
+        int next = (hole + 1) & mask;
+
+        while (used[next]) {
+            int ideal = slot(keys[next]);
+
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        used[hole] = false;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    private int indexOf(int key) {
+        int index = slot(key);
+
+        while (used[index]) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        allocate(capacity);
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = 16;
+
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+}
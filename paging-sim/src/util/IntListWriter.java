@@ -0,0 +1,52 @@
+package util;
+
+import java.io.PrintWriter;
+
+/**
+ * Escreve listas de inteiros separados por espaço diretamente em um
+ * PrintWriter, convertendo os dígitos em um buffer reaproveitado em vez de
+ * criar uma String por número.
+ */
+public final class IntListWriter {
+
+    private final PrintWriter writer;
+    private final char[] digits = new char[11]; // "-2147483648"
+    private boolean empty = true;
+
+    public IntListWriter(PrintWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Acrescenta um número à lista, precedido de espaço se não for o primeiro.
+     */
+    public void add(int value) {
+        if (!empty) {
+            writer.write(' ');
+        }
+
+        empty = false;
+        write(value);
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    private void write(int value) {
+        int position = digits.length;
+        // Dígitos calculados sobre o valor negativo, que cobre Integer.MIN_VALUE
+        int remaining = value < 0 ? value : -value;
+
+        do {
+            digits[--position] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        if (value < 0) {
+            digits[--position] = '-';
+        }
+
+        writer.write(digits, position, digits.length - position);
+    }
+}
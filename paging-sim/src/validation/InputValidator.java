@@ -69,8 +69,8 @@ public final class InputValidator {
         }
     }
 
-    public static <T> void requireNonEmptyList(java.util.List<T> list, String fieldName) {
-        if (list == null || list.isEmpty()) {
+    public static void requireNonEmptyBuffer(java.nio.IntBuffer buffer, String fieldName) {
+        if (buffer == null || !buffer.hasRemaining()) {
             throw new InvalidInputException(fieldName, null, "não pode ser vazio");
         }
     }